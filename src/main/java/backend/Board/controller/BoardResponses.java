@@ -0,0 +1,26 @@
+package backend.Board.controller;
+
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import backend.auth.dto.ApiResponse;
+import org.springframework.http.ResponseEntity;
+
+// 오류 코드 → 실패 응답 변환
+final class BoardResponses {
+
+    private BoardResponses() {
+    }
+
+    static <T> ResponseEntity<ApiResponse<T>> failure(BoardException e) {
+        return failure(e.getErrorCode(), e.getMessage());
+    }
+
+    static <T> ResponseEntity<ApiResponse<T>> failure(BoardErrorCode errorCode) {
+        return failure(errorCode, errorCode.getDefaultMessage());
+    }
+
+    private static <T> ResponseEntity<ApiResponse<T>> failure(BoardErrorCode errorCode, String message) {
+        return ResponseEntity.status(errorCode.getStatus())
+                .body(ApiResponse.onFailure(errorCode.name(), message));
+    }
+}
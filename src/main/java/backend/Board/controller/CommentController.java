@@ -1,10 +1,16 @@
 package backend.Board.controller;
 
+import backend.Board.dto.CommentCursorRequest;
+import backend.Board.dto.CommentPageResponse;
 import backend.Board.dto.CommentRequest;
 import backend.Board.dto.CommentResponse;
+import backend.Board.dto.LikeRequest.LikeType;
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
 import backend.Board.service.CommentService;
+import backend.Board.service.LikeService;
 import backend.auth.dto.ApiResponse;
-import backend.auth.service.UserService;
+import backend.auth.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -14,12 +20,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -36,25 +40,23 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentController {
 
     private final CommentService commentService;
-    private final UserService userService;
+    private final LikeService likeService;
 
     @Operation(summary = "댓글 작성", description = "댓글을 작성합니다.")
     @PostMapping("/posts/{postId}")
     public ResponseEntity<ApiResponse<CommentResponse>> createComment(
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
-            @Valid @RequestBody CommentRequest request) {
+            @Valid @RequestBody CommentRequest request,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
         try {
-            Long userId = getCurrentUserId();
             CommentResponse response = commentService.createComment(postId, request, userId);
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.onSuccess(response));
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().contains("비공개")) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(ApiResponse.onFailure("FORBIDDEN", e.getMessage()));
-            }
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.onFailure("VALIDATION_ERROR", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "댓글 작성 중 오류가 발생했습니다."));
@@ -65,18 +67,16 @@ public class CommentController {
     @PutMapping("/{commentId}")
     public ResponseEntity<ApiResponse<CommentResponse>> updateComment(
             @Parameter(description = "댓글 ID") @PathVariable Long commentId,
-            @Valid @RequestBody CommentRequest request) {
+            @Valid @RequestBody CommentRequest request,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
         try {
-            Long userId = getCurrentUserId();
             CommentResponse response = commentService.updateComment(commentId, request, userId);
             return ResponseEntity.ok(ApiResponse.onSuccess(response));
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().contains("권한")) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(ApiResponse.onFailure("FORBIDDEN", e.getMessage()));
-            }
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.onFailure("COMMENT_NOT_FOUND", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "댓글 수정 중 오류가 발생했습니다."));
@@ -86,18 +86,16 @@ public class CommentController {
     @Operation(summary = "댓글 삭제", description = "댓글을 삭제합니다.")
     @DeleteMapping("/{commentId}")
     public ResponseEntity<ApiResponse<String>> deleteComment(
-            @Parameter(description = "댓글 ID") @PathVariable Long commentId) {
+            @Parameter(description = "댓글 ID") @PathVariable Long commentId,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
         try {
-            Long userId = getCurrentUserId();
             commentService.deleteComment(commentId, userId);
             return ResponseEntity.ok(ApiResponse.onSuccess("댓글이 삭제되었습니다."));
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().contains("권한")) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(ApiResponse.onFailure("FORBIDDEN", e.getMessage()));
-            }
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.onFailure("COMMENT_NOT_FOUND", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "댓글 삭제 중 오류가 발생했습니다."));
@@ -107,40 +105,68 @@ public class CommentController {
     @Operation(summary = "게시글 댓글 목록 조회", description = "특정 게시글의 댓글 목록을 조회합니다.")
     @GetMapping("/posts/{postId}")
     public ResponseEntity<ApiResponse<List<CommentResponse>>> getCommentsByPost(
-            @Parameter(description = "게시글 ID") @PathVariable Long postId) {
+            @Parameter(description = "게시글 ID") @PathVariable Long postId,
+            @CurrentUser Long currentUserId) {
         try {
-            Long currentUserId = getCurrentUserIdOrNull();
             List<CommentResponse> response = commentService.getCommentsByPost(postId, currentUserId);
             return ResponseEntity.ok(ApiResponse.onSuccess(response));
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().contains("권한")) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(ApiResponse.onFailure("FORBIDDEN", e.getMessage()));
-            }
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.onFailure("POST_NOT_FOUND", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.onFailure("INTERNAL_ERROR", "댓글 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    @Operation(summary = "게시글 댓글 페이지 조회",
+            description = "최상위 댓글을 작성순으로 커서 조회합니다. 댓글마다 대댓글 수와 앞쪽 대댓글 replySize 개를 포함합니다.")
+    @GetMapping("/posts/{postId}/page")
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getCommentPage(
+            @Parameter(description = "게시글 ID") @PathVariable Long postId,
+            @Valid @ModelAttribute CommentCursorRequest request,
+            @CurrentUser Long currentUserId) {
+        try {
+            CommentPageResponse response = commentService.getCommentPage(postId, request, currentUserId);
+            return ResponseEntity.ok(ApiResponse.onSuccess(response));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "댓글 조회 중 오류가 발생했습니다."));
         }
     }
 
+    @Operation(summary = "대댓글 페이지 조회", description = "대댓글을 작성순으로 커서 조회합니다. 댓글 페이지의 nextReplyCursor 로 이어서 조회합니다.")
+    @GetMapping("/{commentId}/replies/page")
+    public ResponseEntity<ApiResponse<CommentPageResponse>> getReplyPage(
+            @Parameter(description = "부모 댓글 ID") @PathVariable Long commentId,
+            @Valid @ModelAttribute CommentCursorRequest request,
+            @CurrentUser Long currentUserId) {
+        try {
+            CommentPageResponse response = commentService.getReplyPage(commentId, request, currentUserId);
+            return ResponseEntity.ok(ApiResponse.onSuccess(response));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.onFailure("INTERNAL_ERROR", "대댓글 조회 중 오류가 발생했습니다."));
+        }
+    }
+
     @Operation(summary = "댓글 좋아요/취소", description = "댓글에 좋아요를 추가하거나 취소합니다.")
     @PostMapping("/{commentId}/like")
     public ResponseEntity<ApiResponse<String>> toggleCommentLike(
-            @Parameter(description = "댓글 ID") @PathVariable Long commentId) {
+            @Parameter(description = "댓글 ID") @PathVariable Long commentId,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
         try {
-            Long userId = getCurrentUserId();
-            boolean liked = commentService.toggleLike(commentId, userId);
+            boolean liked = likeService.toggle(LikeType.COMMENT, commentId, userId).isLiked();
             String message = liked ? "좋아요가 추가되었습니다." : "좋아요가 취소되었습니다.";
             return ResponseEntity.ok(ApiResponse.onSuccess(message));
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().contains("비공개")) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(ApiResponse.onFailure("FORBIDDEN", e.getMessage()));
-            }
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.onFailure("COMMENT_NOT_FOUND", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "좋아요 처리 중 오류가 발생했습니다."));
@@ -154,31 +180,11 @@ public class CommentController {
         try {
             List<CommentResponse> response = commentService.getReplies(commentId);
             return ResponseEntity.ok(ApiResponse.onSuccess(response));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.onFailure("COMMENT_NOT_FOUND", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "대댓글 조회 중 오류가 발생했습니다."));
         }
     }
-
-    // 현재 로그인한 사용자 ID 조회
-    private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
-            throw new IllegalArgumentException("로그인이 필요합니다.");
-        }
-        String email = ((UserDetails) authentication.getPrincipal()).getUsername();
-        return userService.getUserByEmail(email).getId();
-    }
-
-    // 현재 로그인한 사용자 ID 조회 (null 허용)
-    private Long getCurrentUserIdOrNull() {
-        try {
-            return getCurrentUserId();
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
\ No newline at end of file
@@ -1,23 +1,26 @@
 package backend.Board.controller;
 
-import backend.Board.dto.LikeRequest;
 import backend.Board.dto.LikeRequest.LikeType;
-import backend.Board.service.CommentService;
-import backend.Board.service.PostService;
+import backend.Board.dto.LikeRequest;
+import backend.Board.dto.LikeResponse;
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import backend.Board.service.LikeService;
 import backend.auth.dto.ApiResponse;
-import backend.auth.service.UserService;
+import backend.auth.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,47 +31,62 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class LikeController {
 
-    private final PostService postService;
-    private final CommentService commentService;
-    private final UserService userService;
+    private final LikeService likeService;
 
     @Operation(summary = "좋아요/취소", description = "게시글 또는 댓글에 좋아요를 추가하거나 취소합니다.")
     @PostMapping
-    public ResponseEntity<ApiResponse<String>> toggleLike(@Valid @RequestBody LikeRequest request) {
+    public ResponseEntity<ApiResponse<String>> toggleLike(@Valid @RequestBody LikeRequest request,
+                                                          @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
         try {
-            Long userId = getCurrentUserId();
-            boolean liked;
-
-            if (request.getType() == LikeType.POST) {
-                liked = postService.toggleLike(request.getTargetId(), userId);
-            } else if (request.getType() == LikeType.COMMENT) {
-                liked = commentService.toggleLike(request.getTargetId(), userId);
-            } else {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(ApiResponse.onFailure("INVALID_TYPE", "올바르지 않은 좋아요 타입입니다."));
-            }
-
+            boolean liked = likeService.toggle(request.getType(), request.getTargetId(), userId).isLiked();
             String message = liked ? "좋아요가 추가되었습니다." : "좋아요가 취소되었습니다.";
             return ResponseEntity.ok(ApiResponse.onSuccess(message));
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().contains("비공개")) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(ApiResponse.onFailure("FORBIDDEN", e.getMessage()));
-            }
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.onFailure("NOT_FOUND", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.onFailure("INTERNAL_ERROR", "좋아요 처리 중 오류가 발생했습니다."));
+        }
+    }
+
+    @Operation(summary = "좋아요", description = "게시글 또는 댓글에 좋아요를 설정합니다. 이미 좋아요한 경우에도 성공하며, 처리 후 좋아요 수를 반환합니다.")
+    @PutMapping("/{type}/{targetId}")
+    public ResponseEntity<ApiResponse<LikeResponse>> like(
+            @Parameter(description = "POST 또는 COMMENT") @PathVariable LikeType type,
+            @Parameter(description = "게시글 ID 또는 댓글 ID") @PathVariable Long targetId,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
+        try {
+            return ResponseEntity.ok(ApiResponse.onSuccess(likeService.like(type, targetId, userId)));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "좋아요 처리 중 오류가 발생했습니다."));
         }
     }
 
-    private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
-            throw new IllegalArgumentException("로그인이 필요합니다.");
+    @Operation(summary = "좋아요 취소", description = "게시글 또는 댓글의 좋아요를 해제합니다. 좋아요하지 않은 경우에도 성공하며, 처리 후 좋아요 수를 반환합니다.")
+    @DeleteMapping("/{type}/{targetId}")
+    public ResponseEntity<ApiResponse<LikeResponse>> unlike(
+            @Parameter(description = "POST 또는 COMMENT") @PathVariable LikeType type,
+            @Parameter(description = "게시글 ID 또는 댓글 ID") @PathVariable Long targetId,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
+        try {
+            return ResponseEntity.ok(ApiResponse.onSuccess(likeService.unlike(type, targetId, userId)));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.onFailure("INTERNAL_ERROR", "좋아요 처리 중 오류가 발생했습니다."));
         }
-        String email = ((UserDetails) authentication.getPrincipal()).getUsername();
-        return userService.getUserByEmail(email).getId();
     }
 }
\ No newline at end of file
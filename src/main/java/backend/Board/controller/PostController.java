@@ -1,5 +1,9 @@
 package backend.Board.controller;
 
+import backend.Board.dto.ContentVersion;
+import backend.Board.dto.LikeRequest.LikeType;
+import backend.Board.dto.PostCursorRequest;
+import backend.Board.dto.PostCursorResponse;
 import backend.Board.dto.PostListResponse;
 import backend.Board.dto.PostPageResponse;
 import backend.Board.dto.PostRequest;
@@ -7,9 +11,12 @@ import backend.Board.dto.PostResponse;
 import backend.Board.dto.PostSearchRequest;
 import backend.Board.dto.PostSortType;
 import backend.Board.dto.PostUpdateRequest;
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import backend.Board.service.LikeService;
 import backend.Board.service.PostService;
 import backend.auth.dto.ApiResponse;
-import backend.auth.service.UserService;
+import backend.auth.security.CurrentUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -18,9 +25,6 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -32,6 +36,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "게시글 API", description = "게시글 관련 API")
 @CrossOrigin(origins = "*")
@@ -41,14 +46,19 @@ import org.springframework.web.bind.annotation.RestController;
 public class PostController {
 
     private final PostService postService;
-    private final UserService userService;
+    private final LikeService likeService;
 
     @Operation(summary = "공개 게시글 목록 조회", description = "공개된 게시글들을 정렬 옵션과 함께 조회합니다. (검색 기능 포함)")
     @GetMapping("/public")
     public ResponseEntity<ApiResponse<PostPageResponse>> getPublicPosts(
-            @ModelAttribute PostSearchRequest request) {
+            @ModelAttribute PostSearchRequest request, WebRequest webRequest,
+            @CurrentUser Long currentUserId) {
         try {
-            Long currentUserId = getCurrentUserIdOrNull();
+            // 변경이 없으면 목록 조회 없이 304
+            ContentVersion version = postService.getPublicFeedVersion(request, currentUserId);
+            if (webRequest.checkNotModified(version.getETag())) {
+                return null;
+            }
             PostPageResponse response = postService.getPublicPosts(request, currentUserId);
             return ResponseEntity.ok(ApiResponse.onSuccess(response));
         } catch (Exception e) {
@@ -60,14 +70,55 @@ public class PostController {
     @Operation(summary = "내 게시글 목록 조회", description = "현재 사용자의 게시글들을 조회합니다.")
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<PostPageResponse>> getMyPosts(
-            @ModelAttribute PostSearchRequest request) {
+            @ModelAttribute PostSearchRequest request,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
         try {
-            Long userId = getCurrentUserId();
             PostPageResponse response = postService.getMyPosts(userId, request);
             return ResponseEntity.ok(ApiResponse.onSuccess(response));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(ApiResponse.onFailure("UNAUTHORIZED", "로그인이 필요합니다."));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.onFailure("INTERNAL_ERROR", "게시글 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    @Operation(summary = "공개 게시글 커서 조회", description = "무한 스크롤용. 이전 응답의 nextCursor 로 다음 페이지를 조회합니다. (전체 개수 미제공)")
+    @GetMapping("/public/cursor")
+    public ResponseEntity<ApiResponse<PostCursorResponse>> getPublicPostsByCursor(
+            @Valid @ModelAttribute PostCursorRequest request, WebRequest webRequest,
+            @CurrentUser Long currentUserId) {
+        try {
+            ContentVersion version = postService.getPublicFeedVersion(request, currentUserId);
+            if (webRequest.checkNotModified(version.getETag())) {
+                return null;
+            }
+            PostCursorResponse response = postService.getPublicPostsByCursor(request, currentUserId);
+            return ResponseEntity.ok(ApiResponse.onSuccess(response));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.onFailure("INTERNAL_ERROR", "게시글 조회 중 오류가 발생했습니다."));
+        }
+    }
+
+    @Operation(summary = "내 게시글 커서 조회", description = "무한 스크롤용. 이전 응답의 nextCursor 로 다음 페이지를 조회합니다. (전체 개수 미제공)")
+    @GetMapping("/my/cursor")
+    public ResponseEntity<ApiResponse<PostCursorResponse>> getMyPostsByCursor(
+            @Valid @ModelAttribute PostCursorRequest request,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
+        try {
+            PostCursorResponse response = postService.getMyPostsByCursor(userId, request);
+            return ResponseEntity.ok(ApiResponse.onSuccess(response));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "게시글 조회 중 오류가 발생했습니다."));
@@ -77,14 +128,18 @@ public class PostController {
     @Operation(summary = "게시글 상세 조회", description = "특정 게시글의 상세 정보를 조회합니다.")
     @GetMapping("/{postId}")
     public ResponseEntity<ApiResponse<PostResponse>> getPost(
-            @Parameter(description = "게시글 ID") @PathVariable Long postId) {
+            @Parameter(description = "게시글 ID") @PathVariable Long postId, WebRequest webRequest,
+            @CurrentUser Long currentUserId) {
         try {
-            Long currentUserId = getCurrentUserIdOrNull();
+            // 변경이 없으면 본문/댓글 조회 없이 304 (재검증 요청은 조회수에 포함하지 않음)
+            ContentVersion version = postService.getPostVersion(postId, currentUserId);
+            if (webRequest.checkNotModified(version.getETag(), version.getLastModified())) {
+                return null;
+            }
             PostResponse response = postService.getPost(postId, currentUserId);
             return ResponseEntity.ok(ApiResponse.onSuccess(response));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.onFailure("POST_NOT_FOUND", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "게시글 조회 중 오류가 발생했습니다."));
@@ -94,15 +149,17 @@ public class PostController {
     @Operation(summary = "게시글 작성", description = "새로운 게시글을 작성합니다.")
     @PostMapping
     public ResponseEntity<ApiResponse<PostResponse>> createPost(
-            @RequestBody @Valid PostRequest request) {
+            @RequestBody @Valid PostRequest request,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
         try {
-            Long userId = getCurrentUserId();
             PostResponse response = postService.createPost(request, userId);
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.onSuccess(response));
-        } catch (IllegalArgumentException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.onFailure("VALIDATION_ERROR", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "게시글 작성 중 오류가 발생했습니다."));
@@ -113,18 +170,16 @@ public class PostController {
     @PutMapping("/{postId}")
     public ResponseEntity<ApiResponse<PostResponse>> updatePost(
             @Parameter(description = "게시글 ID") @PathVariable Long postId,
-            @RequestBody @Valid PostUpdateRequest request) {
+            @RequestBody @Valid PostUpdateRequest request,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
         try {
-            Long userId = getCurrentUserId();
             PostResponse response = postService.updatePost(postId, request, userId);
             return ResponseEntity.ok(ApiResponse.onSuccess(response));
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().contains("권한")) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(ApiResponse.onFailure("FORBIDDEN", e.getMessage()));
-            }
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.onFailure("POST_NOT_FOUND", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "게시글 수정 중 오류가 발생했습니다."));
@@ -134,18 +189,16 @@ public class PostController {
     @Operation(summary = "게시글 삭제", description = "게시글을 삭제합니다.")
     @DeleteMapping("/{postId}")
     public ResponseEntity<ApiResponse<String>> deletePost(
-            @Parameter(description = "게시글 ID") @PathVariable Long postId) {
+            @Parameter(description = "게시글 ID") @PathVariable Long postId,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
         try {
-            Long userId = getCurrentUserId();
             postService.deletePost(postId, userId);
             return ResponseEntity.ok(ApiResponse.onSuccess("게시글이 삭제되었습니다."));
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().contains("권한")) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(ApiResponse.onFailure("FORBIDDEN", e.getMessage()));
-            }
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.onFailure("POST_NOT_FOUND", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "게시글 삭제 중 오류가 발생했습니다."));
@@ -155,19 +208,17 @@ public class PostController {
     @Operation(summary = "게시글 좋아요/취소", description = "게시글에 좋아요를 추가하거나 취소합니다.")
     @PostMapping("/{postId}/like")
     public ResponseEntity<ApiResponse<String>> togglePostLike(
-            @Parameter(description = "게시글 ID") @PathVariable Long postId) {
+            @Parameter(description = "게시글 ID") @PathVariable Long postId,
+            @CurrentUser Long userId) {
+        if (userId == null) {
+            return BoardResponses.failure(BoardErrorCode.UNAUTHORIZED);
+        }
         try {
-            Long userId = getCurrentUserId();
-            boolean liked = postService.toggleLike(postId, userId);
+            boolean liked = likeService.toggle(LikeType.POST, postId, userId).isLiked();
             String message = liked ? "좋아요가 추가되었습니다." : "좋아요가 취소되었습니다.";
             return ResponseEntity.ok(ApiResponse.onSuccess(message));
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().contains("비공개")) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                        .body(ApiResponse.onFailure("FORBIDDEN", e.getMessage()));
-            }
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body(ApiResponse.onFailure("POST_NOT_FOUND", e.getMessage()));
+        } catch (BoardException e) {
+            return BoardResponses.failure(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "좋아요 처리 중 오류가 발생했습니다."));
@@ -178,9 +229,8 @@ public class PostController {
 
     @Operation(summary = "인기 게시글 조회", description = "레딧 알고리즘 기반 인기 게시글 4개를 조회합니다.")
     @GetMapping("/popular")
-    public ResponseEntity<ApiResponse<List<PostListResponse>>> getPopularPosts() {
+    public ResponseEntity<ApiResponse<List<PostListResponse>>> getPopularPosts(@CurrentUser Long currentUserId) {
         try {
-            Long currentUserId = getCurrentUserIdOrNull();
             List<PostListResponse> response = postService.getPopularPosts(currentUserId);
             return ResponseEntity.ok(ApiResponse.onSuccess(response));
         } catch (Exception e) {
@@ -198,10 +248,9 @@ public class PostController {
             @RequestParam(required = false) String nickname,   // 닉네임 검색
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "16") int size,
-            @RequestParam(defaultValue = "DATE") PostSortType sortType) {
+            @RequestParam(defaultValue = "DATE") PostSortType sortType,
+            @CurrentUser Long currentUserId) {
         try {
-            Long currentUserId = getCurrentUserIdOrNull(); // 추가
-
             PostSearchRequest request = PostSearchRequest.builder()
                     .keyword(keyword)
                     .title(title)
@@ -219,23 +268,4 @@ public class PostController {
                     .body(ApiResponse.onFailure("INTERNAL_ERROR", "게시글 검색 중 오류가 발생했습니다."));
         }
     }
-
-    // 현재 로그인한 사용자 ID 조회
-    private Long getCurrentUserId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
-            throw new IllegalArgumentException("로그인이 필요합니다.");
-        }
-        String email = ((UserDetails) authentication.getPrincipal()).getUsername();
-        return userService.getUserByEmail(email).getId();
-    }
-
-    // 현재 로그인한 사용자 ID 조회 (null 허용)
-    private Long getCurrentUserIdOrNull() {
-        try {
-            return getCurrentUserId();
-        } catch (Exception e) {
-            return null;
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package backend.Board.dto;
+
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 커서 기반 페이지네이션 위치.
+ * 댓글은 작성순(작성일, ID 오름차순)으로 나열하므로 마지막으로 받은 댓글의 작성일과 ID 로 구성된다.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentCursor {
+
+    private static final String DELIMITER = "|";
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    // 첫 페이지 (커서 없음)
+    public static CommentCursor first() {
+        return new CommentCursor(FIRST_CREATED_AT, 0L);
+    }
+
+    // 해당 댓글 다음부터 조회하는 커서
+    public static CommentCursor after(CommentSummary comment) {
+        return new CommentCursor(comment.getCreatedAt(), comment.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length == 2) {
+                return new CommentCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            }
+        } catch (RuntimeException e) {
+            // 형식이 잘못된 커서
+        }
+        throw new BoardException(BoardErrorCode.INVALID_CURSOR);
+    }
+}
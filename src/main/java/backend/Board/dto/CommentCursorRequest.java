@@ -0,0 +1,28 @@
+package backend.Board.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentCursorRequest {
+    private String cursor;                   // 이전 응답의 nextCursor (첫 페이지는 비움)
+
+    @Builder.Default
+    @Min(value = 1, message = "size 는 1 이상이어야 합니다.")
+    @Max(value = 50, message = "size 는 50 이하여야 합니다.")
+    private int size = 20;                   // 페이지 크기
+
+    @Builder.Default
+    @Min(value = 0, message = "replySize 는 0 이상이어야 합니다.")
+    @Max(value = 10, message = "replySize 는 10 이하여야 합니다.")
+    private int replySize = 3;               // 댓글마다 미리 포함할 대댓글 수
+}
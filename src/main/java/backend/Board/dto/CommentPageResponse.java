@@ -0,0 +1,19 @@
+package backend.Board.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentPageResponse {
+    private List<CommentResponse> comments;  // 댓글 목록 (대댓글은 앞쪽 일부만 포함)
+    private String nextCursor;               // 다음 페이지 커서 (마지막이면 null)
+    private boolean hasNext;                 // 다음 페이지 존재 여부
+}
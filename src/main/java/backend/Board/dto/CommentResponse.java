@@ -2,6 +2,7 @@ package backend.Board.dto;
 
 import backend.Board.entity.Comment;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
@@ -22,9 +23,12 @@ public class CommentResponse {
     private Long writerId;          // 작성자 ID (필요시)
     private String writerNickname;  // 작성자 닉네임
     private Long likeCount;          // 댓글 좋아요 개수
+    private boolean likedByCurrentUser; // 현재 사용자의 좋아요 여부
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private List<CommentResponse> replies; // 대댓글
+    private Long replyCount;         // 대댓글 수 (페이지 조회 시)
+    private String nextReplyCursor;  // 포함되지 않은 대댓글 조회용 커서 (페이지 조회 시)
 
     public static CommentResponse from(Comment comment) {
         return CommentResponse.builder()
@@ -32,7 +36,7 @@ public class CommentResponse {
                 .comments(comment.getComments())
                 .writerId(comment.getUser().getId())
                 .writerNickname(comment.getUser().getNickName())
-                .likeCount((long) comment.getLikes().size())
+                .likeCount(comment.getLikeCount())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
                 .replies(comment.getReplies().stream()
@@ -40,5 +44,20 @@ public class CommentResponse {
                         .collect(Collectors.toList()))
                 .build();
     }
+
+    // 프로젝션 변환 (대댓글은 호출 측에서 채움)
+    public static CommentResponse from(CommentSummary summary, boolean likedByCurrentUser) {
+        return CommentResponse.builder()
+                .id(summary.getId())
+                .comments(summary.getComments())
+                .writerId(summary.getWriterId())
+                .writerNickname(summary.getWriterNickname())
+                .likeCount(summary.getLikeCount())
+                .likedByCurrentUser(likedByCurrentUser)
+                .createdAt(summary.getCreatedAt())
+                .updatedAt(summary.getUpdatedAt())
+                .replies(new ArrayList<>())
+                .build();
+    }
 }
 
@@ -0,0 +1,22 @@
+package backend.Board.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 트리 조립용 프로젝션 (CommentRepository 의 JPQL 생성자 표현식 결과).
+ * 게시글의 댓글/대댓글을 부모 ID 와 함께 한 번의 쿼리로 평탄하게 가져온다.
+ */
+@Getter
+@AllArgsConstructor
+public class CommentSummary {
+    private Long id;
+    private Long parentId;
+    private String comments;
+    private Long writerId;
+    private String writerNickname;
+    private Long likeCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
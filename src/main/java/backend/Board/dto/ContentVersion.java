@@ -0,0 +1,14 @@
+package backend.Board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 조건부 GET 검사용 응답 버전 (ETag 와 Last-Modified).
+ */
+@Getter
+@AllArgsConstructor
+public class ContentVersion {
+    private String eTag;          // 따옴표로 감싼 strong ETag
+    private long lastModified;    // epoch milli (알 수 없으면 -1)
+}
@@ -0,0 +1,22 @@
+package backend.Board.dto;
+
+import backend.Board.dto.LikeRequest.LikeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LikeResponse {
+    private LikeType type;       // POST, COMMENT
+    private Long targetId;       // 게시글 ID 또는 댓글 ID
+    private boolean liked;       // 처리 후 좋아요 상태
+    private boolean changed;     // 이번 요청으로 상태가 바뀌었는지 (멱등 요청 재시도 시 false)
+    private Long likeCount;      // 처리 후 좋아요 수 (비동기 반영 시 null)
+    private boolean queued;      // 비동기 반영 대기 중 여부
+}
@@ -0,0 +1,67 @@
+package backend.Board.dto;
+
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이지네이션 위치.
+ * 정렬 키(작성일/점수/좋아요 수/조회수)와 게시글 ID 로 구성되며, 클라이언트에는 Base64 문자열로만 노출한다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final PostSortType sortType;
+    private final String sortKey;   // 정렬 기준 값 (sortType 에 따라 해석)
+    private final Long id;          // 동일 정렬 값 내 순서 (ID 내림차순)
+
+    // 첫 페이지 (커서 없음)
+    public static PostCursor first(PostSortType sortType) {
+        return new PostCursor(sortType, null, Long.MAX_VALUE);
+    }
+
+    public boolean isFirst() {
+        return sortKey == null;
+    }
+
+    public LocalDateTime createdAt() {
+        return isFirst() ? LocalDateTime.of(9999, 12, 31, 23, 59) : LocalDateTime.parse(sortKey);
+    }
+
+    public long longKey() {
+        return isFirst() ? Long.MAX_VALUE : Long.parseLong(sortKey);
+    }
+
+    public double doubleKey() {
+        return isFirst() ? Double.MAX_VALUE : Double.parseDouble(sortKey);
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortKey + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor, PostSortType expectedSortType) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(expectedSortType);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            PostSortType sortType = PostSortType.valueOf(parts[0]);
+            if (parts.length == 3 && sortType == expectedSortType) {
+                return new PostCursor(sortType, parts[1], Long.parseLong(parts[2]));
+            }
+        } catch (RuntimeException e) {
+            // 형식이 잘못된 커서
+        }
+        throw new BoardException(BoardErrorCode.INVALID_CURSOR);
+    }
+}
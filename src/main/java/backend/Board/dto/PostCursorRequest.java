@@ -0,0 +1,29 @@
+package backend.Board.dto;
+
+import backend.Board.entity.Emotion;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostCursorRequest {
+    private String cursor;                   // 이전 응답의 nextCursor (첫 페이지는 비움)
+
+    @Builder.Default
+    @Min(value = 1, message = "size 는 1 이상이어야 합니다.")
+    @Max(value = 50, message = "size 는 50 이하여야 합니다.")
+    private int size = 16;                   // 페이지 크기 (4x4)
+
+    @Builder.Default
+    private PostSortType sortType = PostSortType.DATE;  // 정렬 타입
+
+    private Emotion emotion;                 // 감정 필터 (선택사항, 날짜순만 지원)
+}
@@ -0,0 +1,20 @@
+package backend.Board.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostCursorResponse {
+    private List<PostListResponse> posts;    // 게시글 목록
+    private String nextCursor;               // 다음 페이지 커서 (마지막이면 null)
+    private boolean hasNext;                 // 다음 페이지 존재 여부
+    private PostSortType sortType;           // 현재 정렬 타입
+}
@@ -14,7 +14,7 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostListResponse {
     private Long id;
     private String title;
@@ -38,9 +38,9 @@ public class PostListResponse {
                 .emotion(post.getEmotion())
                 .disclosure(post.getDisclosure())
                 .likeCount(post.getDisclosure() == Disclosure.PUBLIC ?
-                        (long) post.getLikes().size() : null)
+                        post.getLikeCount() : null)
                 .commentCount(post.getDisclosure() == Disclosure.PUBLIC ?
-                        (long) post.getComments().size() : null)
+                        post.getCommentCount() : null)
                 .viewCount(post.getDisclosure() == Disclosure.PUBLIC ?
                         post.getViewCount() : null)
                 .createdAt(post.getCreatedAt())
@@ -49,19 +49,40 @@ public class PostListResponse {
                 .build();
     }
 
+    public static PostListResponse from(PostSummary summary) {
+        boolean isPublic = summary.getDisclosure() == Disclosure.PUBLIC;
+
+        return PostListResponse.builder()
+                .id(summary.getId())
+                .title(summary.getTitle())
+                .nickname(summary.getNickname())
+                .emotion(summary.getEmotion())
+                .disclosure(summary.getDisclosure())
+                .likeCount(isPublic ? summary.getLikeCount() : null)
+                .commentCount(isPublic ? summary.getCommentCount() : null)
+                .viewCount(isPublic ? summary.getViewCount() : null)
+                .createdAt(summary.getCreatedAt())
+                .redditScore(calculateRedditScore(summary.getDisclosure(), summary.getLikeCount(),
+                        summary.getCommentCount(), summary.getViewCount(), summary.getCreatedAt()))
+                .likedByCurrentUser(false)
+                .build();
+    }
+
     // 레딧 알고리즘 스코어 계산
-    private static double calculateRedditScore(Post post) {
-        if (post.getDisclosure() != Disclosure.PUBLIC) {
+    public static double calculateRedditScore(Post post) {
+        return calculateRedditScore(post.getDisclosure(), post.getLikeCount(), post.getCommentCount(),
+                post.getViewCount(), post.getCreatedAt());
+    }
+
+    public static double calculateRedditScore(Disclosure disclosure, long likes, long comments, long views,
+                                              LocalDateTime createdAt) {
+        if (disclosure != Disclosure.PUBLIC) {
             return 0.0;
         }
 
-        long likes = post.getLikes().size();
-        long comments = post.getComments().size();
-        long views = post.getViewCount();
-
-        // 시간 가중치 (시간이 지날수록 점수 감소)
-        long hoursOld = java.time.Duration.between(post.getCreatedAt(), LocalDateTime.now()).toHours();
-        double timeDecay = Math.pow(0.8, hoursOld / 24.0); // 24시간마다 20% 감소
+        // 시간 가중치 (시간이 지날수록 점수 감소, 정렬용 PostRepository.POPULARITY_SCORE_SQL 과 같은 순서)
+        long secondsOld = java.time.Duration.between(createdAt, LocalDateTime.now()).toSeconds();
+        double timeDecay = Math.pow(0.8, secondsOld / 86400.0); // 24시간마다 20% 감소
 
         // 레딧 스타일 스코어 계산
         // 좋아요는 높은 가중치, 댓글은 중간, 조회수는 낮은 가중치
@@ -28,8 +28,10 @@ public class PostResponse {
 
     //  게시글 정보
     private Long likeCount;
+    private Long commentCount;
     @Builder.Default
-    private List<CommentResponse> comments = new ArrayList<>();
+    private List<CommentResponse> comments = new ArrayList<>(); // 댓글 첫 페이지
+    private String commentNextCursor;  // 댓글 다음 페이지 커서 (마지막이면 null)
     private Long viewCount;
     //  작성자가 아닌 타인으로 부터 발생하는 정보
     private LocalDateTime createdAt;
@@ -45,10 +47,9 @@ public class PostResponse {
                 .disclosure(post.getDisclosure())
                 // PUBLIC일 때만 소셜 기능 포함
                 .likeCount(post.getDisclosure() == Disclosure.PUBLIC ?
-                        (long) post.getLikes().size() : null)
-                .comments(post.getDisclosure() == Disclosure.PUBLIC ?
-                        post.getComments().stream().map(CommentResponse::from).toList() :
-                        new ArrayList<>())
+                        post.getLikeCount() : null)
+                .commentCount(post.getDisclosure() == Disclosure.PUBLIC ?
+                        post.getCommentCount() : null)
                 .viewCount(post.getDisclosure() == Disclosure.PUBLIC ?
                         post.getViewCount() : null)
                 .createdAt(post.getCreatedAt())
@@ -0,0 +1,26 @@
+package backend.Board.dto;
+
+import backend.Board.entity.Disclosure;
+import backend.Board.entity.Emotion;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 목록용 프로젝션 (PostRepository 의 JPQL 생성자 표현식 결과).
+ * 본문(content)과 연관 컬렉션 없이 목록에 필요한 컬럼만 한 번의 쿼리로 가져온다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummary {
+    private Long id;
+    private String title;
+    private String nickname;
+    private Emotion emotion;
+    private Disclosure disclosure;
+    private Long likeCount;
+    private Long commentCount;
+    private Long viewCount;
+    private Double popularityScore;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package backend.Board.dto;
+
+import backend.Board.entity.Disclosure;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 상세 응답의 버전 정보 (PostRepository.findVersionById 결과).
+ * 본문/댓글을 읽지 않고 ETag, Last-Modified 를 계산하기 위한 컬럼만 담는다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostVersion {
+    private Long id;
+    private Long userId;
+    private Disclosure disclosure;
+    private LocalDateTime updatedAt;
+    private Long likeCount;
+    private Long commentCount;
+    private LocalDateTime commentsUpdatedAt;  // 댓글 최종 수정 시각 (댓글 없으면 null)
+    private Long commentLikeCount;            // 댓글 좋아요 수 합계
+}
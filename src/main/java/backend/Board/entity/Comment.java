@@ -20,10 +20,16 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "comment")
 @Table(name = "comments")
 @Getter
 @Setter
@@ -60,6 +66,12 @@ public class Comment {
     @OneToMany(mappedBy = "comment", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Like> likes = new ArrayList<>();
 
+    //  댓글 좋아요 수 (likes 컬렉션을 로딩하지 않도록 비정규화)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false)
+    private long likeCount = 0;
+
     //  작성일
     @CreationTimestamp
     private LocalDateTime createdAt;
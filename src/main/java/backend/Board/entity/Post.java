@@ -10,6 +10,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -22,11 +23,20 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 @Entity
-@Table(name = "post")
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "post")
+// 공개 목록용 부분 인덱스(disclosure = 'PUBLIC')는 db/migration/V3 에서 생성
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_user_created", columnList = "user_id, created_at DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -72,6 +82,24 @@ public class Post {
     private long viewCount = 0;
     // 조회수
 
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false)
+    private long likeCount = 0;
+    // 좋아요 수 (likes 컬렉션을 로딩하지 않도록 비정규화)
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount = 0;
+    // 댓글 수 (대댓글 포함, comments 컬렉션을 로딩하지 않도록 비정규화)
+
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(name = "popularity_score", nullable = false)
+    private double popularityScore = 0;
+    // 인기 점수 (시간 불변 로그 점수, 활동이 있을 때 PopularityScoreRefresher 가 갱신)
+
     @CreationTimestamp
     private LocalDateTime createdAt;
     // 생성일
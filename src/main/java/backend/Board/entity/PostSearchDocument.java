@@ -0,0 +1,65 @@
+package backend.Board.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 게시글 검색용 문서 (post 1건당 1행).
+ * 제목/내용/작성자 닉네임을 한 테이블에 모아 pg_trgm GIN 인덱스로 부분일치 검색한다.
+ * 인덱스는 db/migration 스크립트(V2, V3)가 생성한다.
+ */
+@Entity
+@Table(name = "post_search")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostSearchDocument {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+    // 게시글 ID
+
+    @Column(nullable = false)
+    private String title;
+    // 제목
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+    // 내용
+
+    @Column(length = 50)
+    private String nickname;
+    // 작성자 닉네임
+
+    @Enumerated(EnumType.STRING)
+    private Disclosure disclosure;
+    // 공개여부
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    // 게시글 생성일
+
+    public static PostSearchDocument from(Post post) {
+        return PostSearchDocument.builder()
+                .postId(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .nickname(post.getUser() != null ? post.getUser().getNickName() : null)
+                .disclosure(post.getDisclosure())
+                .createdAt(post.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package backend.Board.exception;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 게시판 API 오류 코드.
+ * 컨트롤러는 메시지 문자열이 아니라 코드로 HTTP 상태와 응답 code 를 정한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BoardErrorCode {
+
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다."),
+    FORBIDDEN(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
+    POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."),
+    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."),
+    INVALID_PARENT_COMMENT(HttpStatus.BAD_REQUEST, "잘못된 부모 댓글입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+
+    private final HttpStatus status;
+    private final String defaultMessage;
+}
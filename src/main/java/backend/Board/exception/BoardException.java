@@ -0,0 +1,22 @@
+package backend.Board.exception;
+
+import lombok.Getter;
+
+/**
+ * 게시판 도메인 오류 (없는 게시글, 권한 없음 등).
+ * 정상적인 요청 흐름에서 발생하는 오류라 스택 트레이스를 만들지 않는다.
+ */
+@Getter
+public class BoardException extends RuntimeException {
+
+    private final BoardErrorCode errorCode;
+
+    public BoardException(BoardErrorCode errorCode) {
+        this(errorCode, errorCode.getDefaultMessage());
+    }
+
+    public BoardException(BoardErrorCode errorCode, String message) {
+        super(message, null, false, false);
+        this.errorCode = errorCode;
+    }
+}
@@ -1,10 +1,14 @@
 package backend.Board.repository;
 
 import backend.Board.dto.CommentResponse;
+import backend.Board.dto.CommentSummary;
 import backend.Board.entity.Comment;
 import backend.Board.entity.Post;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,11 +23,48 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 대댓글 조회
     List<Comment> findByParentOrderByCreatedAtAsc(Comment parent);
 
-    // Repository에 추가할 최적화 쿼리
-    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.replies " +
-            "WHERE c.post = :post AND c.parent IS NULL ORDER BY c.createdAt ASC")
-    List<Comment> findByPostWithReplies(@Param("post") Post post);
+    // 목록용 프로젝션 (작성자 닉네임 조인)
+    String SUMMARY_SELECT = "SELECT new backend.Board.dto.CommentSummary(c.id, c.parent.id, c.comments, " +
+            "u.id, u.nickname, c.likeCount, c.createdAt, c.updatedAt) FROM Comment c JOIN c.user u ";
+
+    // 작성순 커서 조건 (작성일, ID 오름차순)
+    String AFTER_CURSOR = "AND c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id) " +
+            "ORDER BY c.createdAt ASC, c.id ASC";
+
+    // 게시글의 댓글/대댓글 전체를 평탄하게 조회 (트리는 서비스에서 조립)
+    @Query(SUMMARY_SELECT + "WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentSummary> findSummariesByPostId(@Param("postId") Long postId);
+
+    // 최상위 댓글 커서 조회
+    @Query(SUMMARY_SELECT + "WHERE c.post.id = :postId AND c.parent IS NULL " + AFTER_CURSOR)
+    List<CommentSummary> findRootSummariesByPostId(@Param("postId") Long postId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Limit limit);
+
+    // 대댓글 커서 조회
+    @Query(SUMMARY_SELECT + "WHERE c.parent.id = :parentId " + AFTER_CURSOR)
+    List<CommentSummary> findReplySummariesByParentId(@Param("parentId") Long parentId,
+                                                      @Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
+
+    // ID 목록으로 조회 (작성순)
+    @Query(SUMMARY_SELECT + "WHERE c.id IN :ids ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 부모 댓글별 앞쪽 대댓글 ID (부모마다 최대 size 개)
+    @Query(value = "SELECT t.id FROM (SELECT c.id, row_number() OVER " +
+            "(PARTITION BY c.parent_id ORDER BY c.created_at, c.id) AS rn " +
+            "FROM comments c WHERE c.parent_id IN (:parentIds)) t WHERE t.rn <= :size",
+            nativeQuery = true)
+    List<Long> findFirstReplyIdsByParentIdIn(@Param("parentIds") Collection<Long> parentIds,
+                                             @Param("size") int size);
+
+    // 부모 댓글별 대댓글 수 ([부모 ID, 개수])
+    @Query("SELECT c.parent.id, COUNT(c) FROM Comment c WHERE c.parent.id IN :parentIds GROUP BY c.parent.id")
+    List<Object[]> countRepliesByParentIdIn(@Param("parentIds") Collection<Long> parentIds);
 
     // 게시글의 모든 댓글 수 조회
     long countByPost(Post post);
-}
\ No newline at end of file
+}
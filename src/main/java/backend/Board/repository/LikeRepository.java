@@ -1,9 +1,6 @@
 package backend.Board.repository;
 
-import backend.Board.entity.Comment;
 import backend.Board.entity.Like;
-import backend.Board.entity.Post;
-import backend.auth.entity.User;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -14,15 +11,9 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface LikeRepository extends JpaRepository<Like, Long> {
 
-    // 게시글 좋아요 관련
-    boolean existsByPostAndUser(Post post, User user);
-
-    void deleteByPostAndUser(Post post, User user);
-
-    // 댓글 좋아요 관련
-    boolean existsByCommentAndUser(Comment comment, User user);
-
-    void deleteByCommentAndUser(Comment comment, User user);
+    // 사용자가 좋아요한 게시글 ID 전체 (LikedPostCache 적재용)
+    @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId AND l.post.id IS NOT NULL")
+    List<Long> findLikedPostIdsByUserId(@Param("userId") Long userId);
 
     @Query("SELECT l.post.id FROM Like l WHERE l.user.id = :userId AND l.post.id IN :postIds AND l.comment IS NULL")
     Set<Long> findLikedPostIdsByUserAndPosts(@Param("userId") Long userId, @Param("postIds") List<Long> postIds);
@@ -30,6 +21,54 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     @Query("SELECT l.comment.id FROM Like l WHERE l.user.id = :userId AND l.comment.id IN :commentIds AND l.post IS NULL")
     Set<Long> findLikedCommentIdsByUserAndComments(@Param("userId") Long userId, @Param("commentIds") List<Long> commentIds);
 
+    // ============ 좋아요 설정/해제 (한 문장으로 행 변경 + 카운터 갱신, 결과: [변경 여부, 좋아요 수]) ============
+    // 좋아요 수가 null 이면 대상이 없거나 좋아요할 수 없는 상태(비공개)다.
+
+    // 게시글 좋아요 (이미 있으면 변경 없음)
+    @Query(value = "WITH ins AS (INSERT INTO likes (user_id, post_id) " +
+            "SELECT :userId, p.id FROM post p WHERE p.id = :postId AND p.disclosure = 'PUBLIC' " +
+            "ON CONFLICT DO NOTHING RETURNING post_id), " +
+            "upd AS (UPDATE post SET like_count = like_count + 1 " +
+            "WHERE id IN (SELECT post_id FROM ins) RETURNING like_count) " +
+            "SELECT (SELECT COUNT(*) FROM ins), COALESCE((SELECT like_count FROM upd), " +
+            "(SELECT like_count FROM post WHERE id = :postId AND disclosure = 'PUBLIC'))",
+            nativeQuery = true)
+    List<Object[]> insertPostLike(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 게시글 좋아요 취소 (없으면 변경 없음)
+    @Query(value = "WITH del AS (DELETE FROM likes WHERE user_id = :userId AND post_id = :postId " +
+            "RETURNING post_id), " +
+            "upd AS (UPDATE post SET like_count = like_count - 1 " +
+            "WHERE id IN (SELECT post_id FROM del) RETURNING like_count) " +
+            "SELECT (SELECT COUNT(*) FROM del), COALESCE((SELECT like_count FROM upd), " +
+            "(SELECT like_count FROM post WHERE id = :postId AND disclosure = 'PUBLIC'))",
+            nativeQuery = true)
+    List<Object[]> deletePostLike(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 댓글 좋아요 (공개 게시글의 댓글만)
+    @Query(value = "WITH ins AS (INSERT INTO likes (user_id, comment_id) " +
+            "SELECT :userId, c.id FROM comments c JOIN post p ON p.id = c.post_id " +
+            "WHERE c.id = :commentId AND p.disclosure = 'PUBLIC' " +
+            "ON CONFLICT DO NOTHING RETURNING comment_id), " +
+            "upd AS (UPDATE comments SET like_count = like_count + 1 " +
+            "WHERE id IN (SELECT comment_id FROM ins) RETURNING like_count) " +
+            "SELECT (SELECT COUNT(*) FROM ins), COALESCE((SELECT like_count FROM upd), " +
+            "(SELECT c.like_count FROM comments c JOIN post p ON p.id = c.post_id " +
+            "WHERE c.id = :commentId AND p.disclosure = 'PUBLIC'))",
+            nativeQuery = true)
+    List<Object[]> insertCommentLike(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    // 댓글 좋아요 취소
+    @Query(value = "WITH del AS (DELETE FROM likes WHERE user_id = :userId AND comment_id = :commentId " +
+            "RETURNING comment_id), " +
+            "upd AS (UPDATE comments SET like_count = like_count - 1 " +
+            "WHERE id IN (SELECT comment_id FROM del) RETURNING like_count) " +
+            "SELECT (SELECT COUNT(*) FROM del), COALESCE((SELECT like_count FROM upd), " +
+            "(SELECT c.like_count FROM comments c JOIN post p ON p.id = c.post_id " +
+            "WHERE c.id = :commentId AND p.disclosure = 'PUBLIC'))",
+            nativeQuery = true)
+    List<Object[]> deleteCommentLike(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
     // 사용자별 좋아요 조회
     boolean existsByPostIdAndUserId(Long postId, Long userId);
 
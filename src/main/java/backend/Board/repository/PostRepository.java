@@ -1,108 +1,269 @@
 package backend.Board.repository;
 
+import backend.Board.dto.PostSummary;
+import backend.Board.dto.PostVersion;
 import backend.Board.entity.Disclosure;
 import backend.Board.entity.Emotion;
 import backend.Board.entity.Post;
-import java.time.LocalDate;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // 인기 점수 계산식. 시간 감쇠(24시간마다 0.8배)를 작성 시각 가산점으로 바꾼 로그 점수라
+    // 시간이 지나도 값이 변하지 않고(활동이 있을 때만 재계산), 게시글 간 순서는 감쇠식과 같다.
+    // ln(1 + 활동 점수) + 작성 시각(epoch 초) / POPULARITY_TIME_SCALE_SECONDS
+    double POPULARITY_TIME_SCALE_SECONDS = 86400 / 0.22314355131420976; // 86400 / ln(1.25)
+    String POPULARITY_SCORE_SQL = "CASE WHEN disclosure = 'PUBLIC' THEN " +
+            "ln(1 + like_count * 10 + comment_count * 5 + view_count * 0.1) + " +
+            "EXTRACT(EPOCH FROM created_at) / " + POPULARITY_TIME_SCALE_SECONDS + " " +
+            "ELSE 0 END";
+
+    // 카운터/점수 native UPDATE 용 쿼리 공간. 어떤 엔티티 테이블과도 겹치지 않으므로 Hibernate 가
+    // 2차 캐시 영역을 비우지 않고, 호출하는 쪽이 바뀐 행만 BoardEntityCache 로 제거한다.
+    String COUNTER_SPACE = "board_counters";
+
+    // 공개 게시글 조건. 바인드 파라미터 대신 리터럴로 두어야 disclosure = 'PUBLIC' 부분 인덱스를 사용한다.
+    String PUBLIC_ONLY = "p.disclosure = backend.Board.entity.Disclosure.PUBLIC ";
+
+    // 목록용 프로젝션 (본문 제외, 작성자 닉네임 조인) - 한 페이지당 쿼리 1회
+    String SUMMARY_SELECT = "SELECT new backend.Board.dto.PostSummary(p.id, p.title, u.nickname, p.emotion, " +
+            "p.disclosure, p.likeCount, p.commentCount, p.viewCount, p.popularityScore, p.createdAt) " +
+            "FROM Post p LEFT JOIN p.user u ";
+
     // 공개 게시글만 조회 (기본)
-    Page<Post> findByDisclosureOrderByCreatedAtDesc(Disclosure disclosure, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY + "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE " + PUBLIC_ONLY)
+    Page<PostSummary> findPublicSummariesOrderByCreatedAt(Pageable pageable);
 
     // 좋아요순 정렬
-    @Query("SELECT p FROM Post p LEFT JOIN p.likes l WHERE p.disclosure = :disclosure " +
-            "GROUP BY p ORDER BY COUNT(l) DESC, p.createdAt DESC")
-    Page<Post> findByDisclosureOrderByLikesDesc(@Param("disclosure") Disclosure disclosure, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY + "ORDER BY p.likeCount DESC, p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE " + PUBLIC_ONLY)
+    Page<PostSummary> findPublicSummariesOrderByLikeCount(Pageable pageable);
+
+    // 인기순 정렬 (popularity_score 인덱스 사용)
+    @Query(value = SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY + "ORDER BY p.popularityScore DESC, p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE " + PUBLIC_ONLY)
+    Page<PostSummary> findPublicSummariesOrderByPopularityScore(Pageable pageable);
 
     // 조회수순 정렬
-    Page<Post> findByDisclosureOrderByViewCountDesc(Disclosure disclosure, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY + "ORDER BY p.viewCount DESC, p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE " + PUBLIC_ONLY)
+    Page<PostSummary> findPublicSummariesOrderByViewCount(Pageable pageable);
 
     // 댓글수순 정렬
-    @Query("SELECT p FROM Post p LEFT JOIN p.comments c WHERE p.disclosure = :disclosure " +
-            "GROUP BY p ORDER BY COUNT(c) DESC, p.createdAt DESC")
-    Page<Post> findByDisclosureOrderByCommentsDesc(@Param("disclosure") Disclosure disclosure, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY + "ORDER BY p.commentCount DESC, p.id DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE " + PUBLIC_ONLY)
+    Page<PostSummary> findPublicSummariesOrderByCommentCount(Pageable pageable);
 
-    // 특정 날짜 게시글 조회
-    @Query("SELECT p FROM Post p WHERE p.disclosure = :disclosure AND DATE(p.createdAt) = :date " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByDisclosureAndDate(@Param("disclosure") Disclosure disclosure,
-                                       @Param("date") LocalDate date,
-                                       Pageable pageable);
+    // 특정 날짜 게시글 조회 ([start, end) 반열린 구간 - created_at 인덱스 사용)
+    @Query(value = SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY + "AND p.createdAt >= :start AND p.createdAt < :end " +
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE " + PUBLIC_ONLY +
+                    "AND p.createdAt >= :start AND p.createdAt < :end")
+    Page<PostSummary> findPublicSummariesByCreatedAtRange(@Param("start") LocalDateTime start,
+                                                          @Param("end") LocalDateTime end,
+                                                          Pageable pageable);
 
     // 감정별 조회
-    Page<Post> findByDisclosureAndEmotionOrderByCreatedAtDesc(Disclosure disclosure, Emotion emotion,
-                                                              Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY + "AND p.emotion = :emotion " +
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE " + PUBLIC_ONLY + "AND p.emotion = :emotion")
+    Page<PostSummary> findPublicSummariesByEmotion(@Param("emotion") Emotion emotion, Pageable pageable);
 
     // 사용자별 게시글 조회 (개인 일기장용)
-    Page<Post> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
-
-    // 사용자별 특정 날짜 게시글 조회
-    @Query("SELECT p FROM Post p WHERE p.user.id = :userId AND DATE(p.createdAt) = :date " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByUserIdAndDate(@Param("userId") Long userId,
-                                   @Param("date") LocalDate date,
-                                   Pageable pageable);
-
-    // 통합 키워드 검색 (제목, 내용, 닉네임)
-    @Query("SELECT p FROM Post p WHERE p.disclosure = :disclosure AND " +
-            "(p.title LIKE %:keyword% OR p.content LIKE %:keyword% OR p.user.nickname LIKE %:keyword%) " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByDisclosureAndKeyword(@Param("disclosure") Disclosure disclosure,
-                                          @Param("keyword") String keyword,
-                                          Pageable pageable);
-
-    // 제목 검색
-    @Query("SELECT p FROM Post p WHERE p.disclosure = :disclosure AND p.title LIKE %:title% " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByDisclosureAndTitle(@Param("disclosure") Disclosure disclosure,
-                                        @Param("title") String title,
-                                        Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE p.user.id = :userId ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.id = :userId")
+    Page<PostSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자별 특정 날짜 게시글 조회 ([start, end) 반열린 구간)
+    @Query(value = SUMMARY_SELECT + "WHERE p.user.id = :userId AND p.createdAt >= :start AND p.createdAt < :end " +
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.id = :userId " +
+                    "AND p.createdAt >= :start AND p.createdAt < :end")
+    Page<PostSummary> findSummariesByUserIdAndCreatedAtRange(@Param("userId") Long userId,
+                                                             @Param("start") LocalDateTime start,
+                                                             @Param("end") LocalDateTime end,
+                                                             Pageable pageable);
+
+    // 사용자별 검색 (개인 일기장용)
+    @Query(value = SUMMARY_SELECT + "WHERE p.user.id = :userId AND " +
+            "(p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.id = :userId AND " +
+                    "(p.title LIKE %:keyword% OR p.content LIKE %:keyword%)")
+    Page<PostSummary> findSummariesByUserIdAndKeyword(@Param("userId") Long userId,
+                                                      @Param("keyword") String keyword,
+                                                      Pageable pageable);
+
+    // ID 목록으로 조회 (순서는 호출 측에서 보정)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummary> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // ============ 검색 (post_search + pg_trgm) ============
+    // post_search 에서 정렬된 ID 페이지만 구한 뒤 findSummariesByIdIn 으로 목록 컬럼을 가져온다.
+    // :pattern 은 '%키워드%' 형태 (와일드카드 이스케이프 완료), :keyword 는 유사도 계산용 원문
+
+    String SEARCH_FROM = "FROM post_search s WHERE s.disclosure = 'PUBLIC' ";
+
+    // 통합 키워드 검색 (제목 > 닉네임 > 내용 순 가중치, 이후 최신순)
+    @Query(value = "SELECT s.post_id " + SEARCH_FROM +
+            "AND (s.title ILIKE :pattern OR s.nickname ILIKE :pattern OR s.content ILIKE :pattern) " +
+            "ORDER BY (CASE WHEN s.title ILIKE :pattern THEN 3 ELSE 0 END + " +
+            "CASE WHEN s.nickname ILIKE :pattern THEN 2 ELSE 0 END + " +
+            "CASE WHEN s.content ILIKE :pattern THEN 1 ELSE 0 END) DESC, s.created_at DESC",
+            countQuery = "SELECT COUNT(*) " + SEARCH_FROM +
+                    "AND (s.title ILIKE :pattern OR s.nickname ILIKE :pattern OR s.content ILIKE :pattern)",
+            nativeQuery = true)
+    Page<Long> searchPublicIdsByKeyword(@Param("pattern") String pattern, Pageable pageable);
+
+    // 제목 검색 (제목 유사도 > 최신순)
+    @Query(value = "SELECT s.post_id " + SEARCH_FROM + "AND s.title ILIKE :pattern " +
+            "ORDER BY similarity(s.title, :keyword) DESC, s.created_at DESC",
+            countQuery = "SELECT COUNT(*) " + SEARCH_FROM + "AND s.title ILIKE :pattern",
+            nativeQuery = true)
+    Page<Long> searchPublicIdsByTitle(@Param("pattern") String pattern, @Param("keyword") String keyword,
+                                      Pageable pageable);
 
     // 내용 검색
-    @Query("SELECT p FROM Post p WHERE p.disclosure = :disclosure AND p.content LIKE %:content% " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByDisclosureAndContent(@Param("disclosure") Disclosure disclosure,
-                                          @Param("content") String content,
-                                          Pageable pageable);
-
-    // 닉네임 검색
-    @Query("SELECT p FROM Post p WHERE p.disclosure = :disclosure AND p.user.nickname LIKE %:nickname% " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByDisclosureAndNickname(@Param("disclosure") Disclosure disclosure,
-                                           @Param("nickname") String nickname,
-                                           Pageable pageable);
+    @Query(value = "SELECT s.post_id " + SEARCH_FROM + "AND s.content ILIKE :pattern ORDER BY s.created_at DESC",
+            countQuery = "SELECT COUNT(*) " + SEARCH_FROM + "AND s.content ILIKE :pattern",
+            nativeQuery = true)
+    Page<Long> searchPublicIdsByContent(@Param("pattern") String pattern, Pageable pageable);
+
+    // 닉네임 검색 (닉네임 유사도 > 최신순)
+    @Query(value = "SELECT s.post_id " + SEARCH_FROM + "AND s.nickname ILIKE :pattern " +
+            "ORDER BY similarity(s.nickname, :keyword) DESC, s.created_at DESC",
+            countQuery = "SELECT COUNT(*) " + SEARCH_FROM + "AND s.nickname ILIKE :pattern",
+            nativeQuery = true)
+    Page<Long> searchPublicIdsByNickname(@Param("pattern") String pattern, @Param("keyword") String keyword,
+                                         Pageable pageable);
 
     // 복합 검색 (제목 + 내용)
-    @Query("SELECT p FROM Post p WHERE p.disclosure = :disclosure AND " +
-            "(p.title LIKE %:title% AND p.content LIKE %:content%) " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByDisclosureAndTitleAndContent(@Param("disclosure") Disclosure disclosure,
-                                                  @Param("title") String title,
-                                                  @Param("content") String content,
-                                                  Pageable pageable);
+    @Query(value = "SELECT s.post_id " + SEARCH_FROM +
+            "AND s.title ILIKE :titlePattern AND s.content ILIKE :contentPattern " +
+            "ORDER BY similarity(s.title, :title) DESC, s.created_at DESC",
+            countQuery = "SELECT COUNT(*) " + SEARCH_FROM +
+                    "AND s.title ILIKE :titlePattern AND s.content ILIKE :contentPattern",
+            nativeQuery = true)
+    Page<Long> searchPublicIdsByTitleAndContent(@Param("titlePattern") String titlePattern,
+                                                @Param("title") String title,
+                                                @Param("contentPattern") String contentPattern,
+                                                Pageable pageable);
 
     // 복합 검색 (제목 + 닉네임)
-    @Query("SELECT p FROM Post p WHERE p.disclosure = :disclosure AND " +
-            "(p.title LIKE %:title% AND p.user.nickname LIKE %:nickname%) " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByDisclosureAndTitleAndNickname(@Param("disclosure") Disclosure disclosure,
-                                                   @Param("title") String title,
-                                                   @Param("nickname") String nickname,
-                                                   Pageable pageable);
+    @Query(value = "SELECT s.post_id " + SEARCH_FROM +
+            "AND s.title ILIKE :titlePattern AND s.nickname ILIKE :nicknamePattern " +
+            "ORDER BY similarity(s.title, :title) DESC, s.created_at DESC",
+            countQuery = "SELECT COUNT(*) " + SEARCH_FROM +
+                    "AND s.title ILIKE :titlePattern AND s.nickname ILIKE :nicknamePattern",
+            nativeQuery = true)
+    Page<Long> searchPublicIdsByTitleAndNickname(@Param("titlePattern") String titlePattern,
+                                                 @Param("title") String title,
+                                                 @Param("nicknamePattern") String nicknamePattern,
+                                                 Pageable pageable);
 
-    // 사용자별 검색 (개인 일기장용)
-    @Query("SELECT p FROM Post p WHERE p.user.id = :userId AND " +
-            "(p.title LIKE %:keyword% OR p.content LIKE %:keyword%) " +
-            "ORDER BY p.createdAt DESC")
-    Page<Post> findByUserIdAndKeyword(@Param("userId") Long userId,
-                                      @Param("keyword") String keyword,
-                                      Pageable pageable);
+    // ============ 커서 기반 조회 (keyset) ============
+    // 첫 페이지는 커서 값에 최대값을 넣어 같은 쿼리로 조회한다. OFFSET/COUNT 없음.
+
+    // 날짜순
+    @Query(SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY +
+            "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findPublicFeedByCreatedAt(@Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Limit limit);
+
+    // 인기순
+    @Query(SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY +
+            "AND p.popularityScore <= :score AND (p.popularityScore < :score OR p.id < :id) " +
+            "ORDER BY p.popularityScore DESC, p.id DESC")
+    List<PostSummary> findPublicFeedByPopularityScore(@Param("score") double score,
+                                                      @Param("id") Long id,
+                                                      Limit limit);
+
+    // 좋아요순
+    @Query(SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY +
+            "AND p.likeCount <= :likeCount AND (p.likeCount < :likeCount OR p.id < :id) " +
+            "ORDER BY p.likeCount DESC, p.id DESC")
+    List<PostSummary> findPublicFeedByLikeCount(@Param("likeCount") long likeCount,
+                                                @Param("id") Long id,
+                                                Limit limit);
+
+    // 조회수순
+    @Query(SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY +
+            "AND p.viewCount <= :viewCount AND (p.viewCount < :viewCount OR p.id < :id) " +
+            "ORDER BY p.viewCount DESC, p.id DESC")
+    List<PostSummary> findPublicFeedByViewCount(@Param("viewCount") long viewCount,
+                                                @Param("id") Long id,
+                                                Limit limit);
+
+    // 감정별 (날짜순)
+    @Query(SUMMARY_SELECT + "WHERE " + PUBLIC_ONLY + "AND p.emotion = :emotion " +
+            "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findPublicFeedByEmotion(@Param("emotion") Emotion emotion,
+                                              @Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Limit limit);
+
+    // 사용자별 (개인 일기장용, 날짜순)
+    @Query(SUMMARY_SELECT + "WHERE p.user.id = :userId " +
+            "AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummary> findFeedByUserId(@Param("userId") Long userId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Limit limit);
+
+    // ============ 조건부 GET 용 버전 조회 ============
+
+    // 게시글 상세 버전 (본문/작성자/댓글 목록은 읽지 않음)
+    @Query("SELECT new backend.Board.dto.PostVersion(p.id, p.user.id, p.disclosure, p.updatedAt, " +
+            "p.likeCount, p.commentCount, " +
+            "(SELECT MAX(c.updatedAt) FROM Comment c WHERE c.post.id = p.id), " +
+            "(SELECT COALESCE(SUM(c.likeCount), 0) FROM Comment c WHERE c.post.id = p.id)) " +
+            "FROM Post p WHERE p.id = :postId")
+    Optional<PostVersion> findVersionById(@Param("postId") Long postId);
+
+    // ============ 카운터 갱신 (원자적 UPDATE) ============
+    // JPQL 벌크 UPDATE 와 쿼리 공간 없는 native UPDATE 는 post 영역 전체를 비우므로 COUNTER_SPACE 로 실행하고,
+    // 호출하는 쪽이 BoardEntityCache.evictPost 로 해당 게시글만 제거한다.
+
+    // 댓글 수 증감
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE post SET comment_count = comment_count + :delta WHERE id = :postId", nativeQuery = true)
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 댓글 수 재계산 (대댓글까지 함께 삭제되는 경우)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE post SET comment_count = (SELECT COUNT(*) FROM comments WHERE post_id = :postId) " +
+            "WHERE id = :postId", nativeQuery = true)
+    int refreshCommentCount(@Param("postId") Long postId);
+
+    // ============ 인기 점수 갱신 ============
+
+    // 활동이 있었던 게시글만 재계산 (점수가 시간에 따라 변하지 않으므로 나머지는 그대로 둠)
+    // 호출하는 쪽이 BoardEntityCache.evictPosts 로 해당 게시글만 제거
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE post SET popularity_score = " + POPULARITY_SCORE_SQL + " WHERE id IN (:postIds)",
+            nativeQuery = true)
+    int refreshPopularityScores(@Param("postIds") Collection<Long> postIds);
 }
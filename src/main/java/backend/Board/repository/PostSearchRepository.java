@@ -0,0 +1,9 @@
+package backend.Board.repository;
+
+import backend.Board.entity.PostSearchDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PostSearchRepository extends JpaRepository<PostSearchDocument, Long> {
+}
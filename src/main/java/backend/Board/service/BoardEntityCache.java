@@ -0,0 +1,59 @@
+package backend.Board.service;
+
+import backend.Board.entity.Comment;
+import backend.Board.entity.Post;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 2차 캐시(post/comment 영역) 개별 무효화.
+ * 엔티티를 거치지 않는 카운터 UPDATE(좋아요 CTE, 조회수 batch UPDATE 등)는 Hibernate 가 알 수 없으므로
+ * 변경된 행만 직접 제거한다. 영역 전체를 비우지 않아 다른 인기 게시글의 캐시는 유지된다.
+ * 트랜잭션 안에서 호출되면 커밋 전 값이 다시 캐시되지 않도록 커밋 후에 한 번 더 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardEntityCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictPost(Long postId) {
+        evict(Post.class, List.of(postId));
+    }
+
+    public void evictPosts(Collection<Long> postIds) {
+        evict(Post.class, postIds);
+    }
+
+    public void evictComment(Long commentId) {
+        evict(Comment.class, List.of(commentId));
+    }
+
+    public void evictComments(Collection<Long> commentIds) {
+        evict(Comment.class, commentIds);
+    }
+
+    private void evict(Class<?> entityClass, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Cache cache = entityManagerFactory.getCache();
+        ids.forEach(id -> cache.evict(entityClass, id));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<Long> copied = List.copyOf(ids);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    copied.forEach(id -> cache.evict(entityClass, id));
+                }
+            });
+        }
+    }
+}
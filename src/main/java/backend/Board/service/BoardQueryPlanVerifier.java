@@ -0,0 +1,81 @@
+package backend.Board.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주요 Board 쿼리의 실행 계획 검사.
+ * 대표 SQL 을 EXPLAIN 해 db/migration 에서 만든 인덱스가 실제로 선택되는지 확인하고, 아니면 경고를 남긴다.
+ * 데이터가 적으면 planner 가 seq scan 을 고르므로 트랜잭션 안에서만 enable_seqscan 을 끈다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardQueryPlanVerifier {
+
+    // 검사할 SQL -> 사용되어야 하는 인덱스
+    private static final Map<String, String> EXPECTED_INDEXES = new LinkedHashMap<>();
+
+    static {
+        EXPECTED_INDEXES.put("SELECT id FROM post WHERE disclosure = 'PUBLIC' " +
+                "ORDER BY created_at DESC, id DESC LIMIT 16", "idx_post_public_created");
+        EXPECTED_INDEXES.put("SELECT id FROM post WHERE disclosure = 'PUBLIC' " +
+                "AND created_at >= now() - interval '1 day' AND created_at < now() " +
+                "ORDER BY created_at DESC LIMIT 16", "idx_post_public_created");
+        EXPECTED_INDEXES.put("SELECT id FROM post WHERE disclosure = 'PUBLIC' " +
+                "ORDER BY popularity_score DESC, id DESC LIMIT 16", "idx_post_public_popularity");
+        EXPECTED_INDEXES.put("SELECT id FROM post WHERE disclosure = 'PUBLIC' " +
+                "ORDER BY like_count DESC, id DESC LIMIT 16", "idx_post_public_likes");
+        EXPECTED_INDEXES.put("SELECT id FROM post WHERE disclosure = 'PUBLIC' " +
+                "ORDER BY view_count DESC, id DESC LIMIT 16", "idx_post_public_views");
+        EXPECTED_INDEXES.put("SELECT id FROM post WHERE disclosure = 'PUBLIC' AND emotion = 'HAPPY' " +
+                "ORDER BY created_at DESC, id DESC LIMIT 16", "idx_post_public_emotion_created");
+        EXPECTED_INDEXES.put("SELECT id FROM post WHERE user_id = 1 " +
+                "ORDER BY created_at DESC, id DESC LIMIT 16", "idx_post_user_created");
+        EXPECTED_INDEXES.put("SELECT post_id FROM post_search WHERE disclosure = 'PUBLIC' " +
+                "AND title ILIKE '%diary%'", "idx_post_search_title_trgm");
+        EXPECTED_INDEXES.put("SELECT id FROM comments WHERE post_id = 1 AND parent_id IS NULL " +
+                "ORDER BY created_at", "idx_comments_post_root_created");
+        EXPECTED_INDEXES.put("SELECT id FROM comments WHERE parent_id = 1 " +
+                "ORDER BY created_at", "idx_comments_parent_created");
+        EXPECTED_INDEXES.put("SELECT COUNT(*) FROM likes WHERE post_id = 1", "idx_likes_post");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${board.query-plan-check.enabled:false}")
+    private boolean enabled;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() {
+        if (!enabled) {
+            return;
+        }
+
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        int missed = 0;
+        for (Map.Entry<String, String> entry : EXPECTED_INDEXES.entrySet()) {
+            try {
+                String plan = String.join("\n",
+                        jdbcTemplate.queryForList("EXPLAIN " + entry.getKey(), String.class));
+                if (!plan.contains(entry.getValue())) {
+                    missed++;
+                    log.warn("[BOARD] 인덱스 미사용. expected={} sql={}\n{}", entry.getValue(), entry.getKey(), plan);
+                }
+            } catch (Exception e) {
+                missed++;
+                log.warn("[BOARD] 실행 계획 조회 실패. sql={} {}", entry.getKey(), e.getMessage());
+            }
+        }
+        log.info("[BOARD] 실행 계획 검사 완료. queries={} missed={}", EXPECTED_INDEXES.size(), missed);
+    }
+}
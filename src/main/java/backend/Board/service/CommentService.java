@@ -1,20 +1,31 @@
 package backend.Board.service;
 
+import backend.Board.dto.CommentCursor;
+import backend.Board.dto.CommentCursorRequest;
+import backend.Board.dto.CommentPageResponse;
 import backend.Board.dto.CommentRequest;
 import backend.Board.dto.CommentResponse;
+import backend.Board.dto.CommentSummary;
 import backend.Board.entity.Comment;
 import backend.Board.entity.Disclosure;
-import backend.Board.entity.Like;
 import backend.Board.entity.Post;
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
 import backend.Board.repository.CommentRepository;
 import backend.Board.repository.LikeRepository;
 import backend.Board.repository.PostRepository;
 import backend.auth.entity.User;
 import backend.auth.service.UserService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +39,10 @@ public class CommentService {
     private final PostRepository postRepository;
     private final LikeRepository likeRepository;
     private final UserService userService;
+    private final PopularityScoreRefresher popularityScoreRefresher;
+    private final TrendingPostTracker trendingPostTracker;
+    private final FeedVersionTracker feedVersionTracker;
+    private final BoardEntityCache boardEntityCache;
 
     // 댓글 작성
     @Transactional
@@ -35,10 +50,10 @@ public class CommentService {
 
         try {
             Post post = postRepository.findById(postId)
-                    .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+                    .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
 
             if (post.getDisclosure() == Disclosure.PRIVATE && !post.getUser().getId().equals(userId)) {
-                throw new IllegalArgumentException("비공개 게시글에는 댓글을 작성할 수 없습니다.");
+                throw new BoardException(BoardErrorCode.FORBIDDEN, "비공개 게시글에는 댓글을 작성할 수 없습니다.");
             }
 
             User user = userService.getUserById(userId);
@@ -46,10 +61,10 @@ public class CommentService {
             Comment parent = null;
             if (request.getParentId() != null) {
                 parent = commentRepository.findById(request.getParentId())
-                        .orElseThrow(() -> new IllegalArgumentException("부모 댓글을 찾을 수 없습니다."));
+                        .orElseThrow(() -> new BoardException(BoardErrorCode.COMMENT_NOT_FOUND, "부모 댓글을 찾을 수 없습니다."));
 
                 if (!parent.getPost().getId().equals(postId)) {
-                    throw new IllegalArgumentException("잘못된 부모 댓글입니다.");
+                    throw new BoardException(BoardErrorCode.INVALID_PARENT_COMMENT);
                 }
             }
 
@@ -63,6 +78,11 @@ public class CommentService {
                     .build();
 
             Comment savedComment = commentRepository.save(comment);
+            postRepository.addCommentCount(postId, 1);
+            boardEntityCache.evictPost(postId);
+            popularityScoreRefresher.markDirty(postId);
+            feedVersionTracker.bump();
+            trendingPostTracker.record(postId, TrendingPostTracker.COMMENT_WEIGHT);
 
             return CommentResponse.from(savedComment);
         } catch (Exception e) {
@@ -74,11 +94,11 @@ public class CommentService {
     @Transactional
     public CommentResponse updateComment(Long commentId, CommentRequest request, Long userId) {
         Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
+                .orElseThrow(() -> new BoardException(BoardErrorCode.COMMENT_NOT_FOUND));
 
         // 작성자 확인
         if (!comment.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("수정 권한이 없습니다.");
+            throw new BoardException(BoardErrorCode.FORBIDDEN, "수정 권한이 없습니다.");
         }
 
         comment.setComments(request.getComments());
@@ -90,70 +110,166 @@ public class CommentService {
     @Transactional
     public void deleteComment(Long commentId, Long userId) {
         Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
+                .orElseThrow(() -> new BoardException(BoardErrorCode.COMMENT_NOT_FOUND));
 
         // 작성자 확인
         if (!comment.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("삭제 권한이 없습니다.");
+            throw new BoardException(BoardErrorCode.FORBIDDEN, "삭제 권한이 없습니다.");
         }
 
+        // 대댓글까지 함께 삭제되므로 댓글 수는 재계산
+        Long postId = comment.getPost().getId();
         commentRepository.delete(comment);
+        postRepository.refreshCommentCount(postId);
+        boardEntityCache.evictPost(postId);
+        popularityScoreRefresher.markDirty(postId);
+        feedVersionTracker.bump();
+        trendingPostTracker.record(postId, -TrendingPostTracker.COMMENT_WEIGHT);
     }
 
     // 댓글 목록 조회 (게시글별)
     public List<CommentResponse> getCommentsByPost(Long postId, Long currentUserId) {
         Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+                .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
 
         // 비공개 게시글은 작성자만 댓글 조회 가능
         if (post.getDisclosure() == Disclosure.PRIVATE &&
                 (currentUserId == null || !post.getUser().getId().equals(currentUserId))) {
-            throw new IllegalArgumentException("접근 권한이 없습니다.");
+            throw new BoardException(BoardErrorCode.FORBIDDEN);
         }
 
-        // 최상위 댓글만 조회 (대댓글은 CommentResponse에서 처리)
-        List<Comment> topLevelComments = commentRepository.findByPostWithReplies(post);
+        // 댓글/대댓글 전체를 한 번에 조회한 뒤 메모리에서 트리 조립
+        List<CommentSummary> comments = commentRepository.findSummariesByPostId(postId);
+        return buildTree(comments, findLikedCommentIds(comments, currentUserId));
+    }
 
-        return topLevelComments.stream()
-                .map(CommentResponse::from)
-                .collect(Collectors.toList());
+    // 최상위 댓글 페이지 조회 (댓글마다 대댓글 수와 앞쪽 대댓글 일부 포함)
+    public CommentPageResponse getCommentPage(Long postId, CommentCursorRequest request, Long currentUserId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
+
+        if (post.getDisclosure() == Disclosure.PRIVATE &&
+                (currentUserId == null || !post.getUser().getId().equals(currentUserId))) {
+            throw new BoardException(BoardErrorCode.FORBIDDEN);
+        }
+
+        return findCommentPage(postId, request, currentUserId);
     }
 
-    // 댓글 좋아요/좋아요 취소
-    @Transactional
-    public boolean toggleLike(Long commentId, Long userId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
+    // 최상위 댓글 페이지 (접근 권한은 호출 측에서 확인)
+    public CommentPageResponse findCommentPage(Long postId, CommentCursorRequest request, Long currentUserId) {
+        CommentCursor cursor = CommentCursor.decode(request.getCursor());
+        List<CommentSummary> comments = commentRepository.findRootSummariesByPostId(
+                postId, cursor.getCreatedAt(), cursor.getId(), Limit.of(request.getSize() + 1));
+        return toPage(comments, request.getSize(), request.getReplySize(), currentUserId);
+    }
+
+    // 대댓글 페이지 조회
+    public CommentPageResponse getReplyPage(Long parentCommentId, CommentCursorRequest request, Long currentUserId) {
+        Comment parent = commentRepository.findById(parentCommentId)
+                .orElseThrow(() -> new BoardException(BoardErrorCode.COMMENT_NOT_FOUND, "부모 댓글을 찾을 수 없습니다."));
 
-        // 비공개 게시글의 댓글은 좋아요 불가
-        if (comment.getPost().getDisclosure() == Disclosure.PRIVATE) {
-            throw new IllegalArgumentException("비공개 게시글의 댓글에는 좋아요를 할 수 없습니다.");
+        Post post = parent.getPost();
+        if (post.getDisclosure() == Disclosure.PRIVATE &&
+                (currentUserId == null || !post.getUser().getId().equals(currentUserId))) {
+            throw new BoardException(BoardErrorCode.FORBIDDEN);
         }
 
-        User user = userService.getUserById(userId);
+        CommentCursor cursor = CommentCursor.decode(request.getCursor());
+        List<CommentSummary> replies = commentRepository.findReplySummariesByParentId(
+                parentCommentId, cursor.getCreatedAt(), cursor.getId(), Limit.of(request.getSize() + 1));
+        return toPage(replies, request.getSize(), 0, currentUserId);
+    }
 
-        // 기존 좋아요 확인
-        boolean existingLike = likeRepository.existsByCommentAndUser(comment, user);
+    // 페이지 조립: 대댓글 수/앞쪽 대댓글/좋아요 여부를 각각 한 번의 쿼리로 채움
+    private CommentPageResponse toPage(List<CommentSummary> comments, int size, int replySize, Long currentUserId) {
+        boolean hasNext = comments.size() > size;
+        List<CommentSummary> page = hasNext ? comments.subList(0, size) : comments;
+        if (page.isEmpty()) {
+            return CommentPageResponse.builder().comments(List.of()).hasNext(false).build();
+        }
 
-        if (existingLike) {
-            // 좋아요 취소
-            likeRepository.deleteByCommentAndUser(comment, user);
-            return false;
-        } else {
-            // 좋아요 추가
-            Like like = Like.builder()
-                    .comment(comment)
-                    .user(user)
-                    .build();
-            likeRepository.save(like);
-            return true;
+        List<Long> pageIds = page.stream().map(CommentSummary::getId).toList();
+        List<CommentSummary> replies = List.of();
+        if (replySize > 0) {
+            List<Long> replyIds = commentRepository.findFirstReplyIdsByParentIdIn(pageIds, replySize);
+            replies = replyIds.isEmpty() ? List.of() : commentRepository.findSummariesByIdIn(replyIds);
+        }
+
+        List<CommentSummary> all = new ArrayList<>(page);
+        all.addAll(replies);
+        Map<Long, Long> replyCounts = new HashMap<>();
+        for (Object[] row : commentRepository.countRepliesByParentIdIn(
+                all.stream().map(CommentSummary::getId).toList())) {
+            replyCounts.put((Long) row[0], (Long) row[1]);
+        }
+        Set<Long> likedCommentIds = findLikedCommentIds(all, currentUserId);
+
+        Map<Long, CommentResponse> byId = new LinkedHashMap<>();
+        for (CommentSummary comment : page) {
+            byId.put(comment.getId(), toPageItem(comment, replyCounts, likedCommentIds));
+        }
+        Map<Long, CommentSummary> lastReplies = new HashMap<>();
+        for (CommentSummary reply : replies) {
+            byId.get(reply.getParentId()).getReplies().add(toPageItem(reply, replyCounts, likedCommentIds));
+            lastReplies.put(reply.getParentId(), reply);
+        }
+
+        // 포함하지 못한 대댓글이 남은 경우 이어서 조회할 커서
+        lastReplies.forEach((parentId, lastReply) -> {
+            CommentResponse parent = byId.get(parentId);
+            if (parent.getReplyCount() > parent.getReplies().size()) {
+                parent.setNextReplyCursor(CommentCursor.after(lastReply).encode());
+            }
+        });
+
+        return CommentPageResponse.builder()
+                .comments(new ArrayList<>(byId.values()))
+                .nextCursor(hasNext ? CommentCursor.after(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private CommentResponse toPageItem(CommentSummary comment, Map<Long, Long> replyCounts,
+                                       Set<Long> likedCommentIds) {
+        CommentResponse response = CommentResponse.from(comment, likedCommentIds.contains(comment.getId()));
+        response.setReplyCount(replyCounts.getOrDefault(comment.getId(), 0L));
+        return response;
+    }
+
+    // 현재 사용자가 좋아요한 댓글 ID (한 번의 IN 쿼리)
+    private Set<Long> findLikedCommentIds(List<CommentSummary> comments, Long currentUserId) {
+        if (currentUserId == null || comments.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> commentIds = comments.stream().map(CommentSummary::getId).toList();
+        return likeRepository.findLikedCommentIdsByUserAndComments(currentUserId, commentIds);
+    }
+
+    // 부모 ID 로 트리 조립 (O(n), 작성순 유지)
+    private List<CommentResponse> buildTree(List<CommentSummary> comments, Set<Long> likedCommentIds) {
+        Map<Long, CommentResponse> byId = new HashMap<>(comments.size() * 2);
+        for (CommentSummary comment : comments) {
+            byId.put(comment.getId(), CommentResponse.from(comment, likedCommentIds.contains(comment.getId())));
+        }
+
+        List<CommentResponse> roots = new ArrayList<>();
+        for (CommentSummary comment : comments) {
+            CommentResponse response = byId.get(comment.getId());
+            CommentResponse parent = comment.getParentId() == null ? null : byId.get(comment.getParentId());
+            if (parent == null) {
+                roots.add(response);
+            } else {
+                parent.getReplies().add(response);
+            }
         }
+        return roots;
     }
 
     // 대댓글 조회
     public List<CommentResponse> getReplies(Long parentCommentId) {
         Comment parentComment = commentRepository.findById(parentCommentId)
-                .orElseThrow(() -> new IllegalArgumentException("부모 댓글을 찾을 수 없습니다."));
+                .orElseThrow(() -> new BoardException(BoardErrorCode.COMMENT_NOT_FOUND, "부모 댓글을 찾을 수 없습니다."));
 
         List<Comment> replies = commentRepository.findByParentOrderByCreatedAtAsc(parentComment);
 
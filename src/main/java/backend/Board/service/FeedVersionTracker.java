@@ -0,0 +1,79 @@
+package backend.Board.service;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 공개 게시글 목록 ETag 용 버전.
+ * 게시글 작성/수정/삭제와 좋아요/댓글/인기 점수 반영이 커밋되면 bump 로 표시하고,
+ * 주기 작업이 공유 행(board_feed_version)을 한 번에 올린 뒤 다시 읽어 모든 인스턴스가 같은 값을 쓰게 한다.
+ * 조건부 요청은 메모리 값만 보므로 DB 를 조회하지 않는다.
+ * - 다른 인스턴스의 변경은 최대 약 2 × board.http-cache.feed-version-sync-ms 뒤에 반영
+ * - 자기 인스턴스의 변경은 공유 값에 반영되기 전까지 인스턴스 고유 값을 붙여 즉시 반영
+ * - 조회수만 바뀐 경우는 올리지 않음 (목록의 조회수/조회수순 정렬은 다음 변경 때까지 이전 값일 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedVersionTracker {
+
+    private static final String BUMP_SQL = "UPDATE board_feed_version SET version = version + 1 WHERE id = 1";
+    private static final String SELECT_SQL = "SELECT version FROM board_feed_version WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 공유 값에 아직 반영되지 않은 자기 변경을 구분하기 위한 값 (다른 인스턴스/재시작 후 값과 겹치지 않도록)
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong localBumps = new AtomicLong();
+    // 공유 값과 그 값에 포함된 자기 변경 수를 함께 교체 (둘을 따로 읽으면 반영 전 값을 반영된 값으로 볼 수 있음)
+    private volatile Synced synced = new Synced(-1, 0);
+
+    private record Synced(long version, long bumps) {
+    }
+
+    // 목록 변경 반영. 트랜잭션 안이면 커밋된 경우에만 올림
+    public void bump() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    localBumps.incrementAndGet();
+                }
+            });
+        } else {
+            localBumps.incrementAndGet();
+        }
+    }
+
+    public String current() {
+        Synced snapshot = synced;
+        long bumps = localBumps.get();
+        if (snapshot.version() < 0 || bumps != snapshot.bumps()) {
+            return snapshot.version() + ":" + instanceId + ":" + bumps;
+        }
+        return String.valueOf(snapshot.version());
+    }
+
+    // 모인 변경을 공유 행에 한 번만 반영하고 최신 공유 값을 읽음 (트랜잭션 밖이므로 주 DB 사용)
+    @Scheduled(fixedDelayString = "${board.http-cache.feed-version-sync-ms:1000}")
+    public void sync() {
+        long bumps = localBumps.get();
+        try {
+            if (bumps != synced.bumps()) {
+                jdbcTemplate.update(BUMP_SQL);
+            }
+            Long version = jdbcTemplate.queryForObject(SELECT_SQL, Long.class);
+            synced = new Synced(version == null ? -1 : version, bumps);
+        } catch (Exception e) {
+            // 반영하지 못한 변경은 다음 주기에 다시 시도 (그동안은 인스턴스 고유 값 사용)
+            log.warn("[BOARD] 목록 버전 동기화 실패, 다음 주기에 재시도", e);
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package backend.Board.service;
+
+import backend.Board.dto.LikeRequest.LikeType;
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 좋아요 요청 비동기 반영 큐 (board.likes.async.enabled).
+ * 좋아요/취소 요청을 (대상, 사용자) 별 최종 상태로만 보관하므로 같은 사용자의 연타는 하나로 합쳐지고,
+ * 전용 쓰기 스레드가 주기적으로 batch INSERT/DELETE 와 게시글·댓글별 카운터 UPDATE 1회로 반영한다.
+ * 큐가 가득 차면 새 요청을 거절해(429) 클라이언트가 재시도하도록 한다.
+ * 사용자별 좋아요 캐시(LikedPostCache)는 커밋 후 실제로 바뀐 행만 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeIngestionQueue {
+
+    private static final String INSERT_POST_LIKE_SQL = "INSERT INTO likes (user_id, post_id) " +
+            "SELECT ?, p.id FROM post p WHERE p.id = ? AND p.disclosure = 'PUBLIC' ON CONFLICT DO NOTHING";
+    private static final String DELETE_POST_LIKE_SQL = "DELETE FROM likes WHERE user_id = ? AND post_id = ?";
+    private static final String INSERT_COMMENT_LIKE_SQL = "INSERT INTO likes (user_id, comment_id) " +
+            "SELECT ?, c.id FROM comments c JOIN post p ON p.id = c.post_id " +
+            "WHERE c.id = ? AND p.disclosure = 'PUBLIC' ON CONFLICT DO NOTHING";
+    private static final String DELETE_COMMENT_LIKE_SQL = "DELETE FROM likes WHERE user_id = ? AND comment_id = ?";
+    private static final String ADD_POST_LIKE_COUNT_SQL = "UPDATE post SET like_count = like_count + ? WHERE id = ?";
+    private static final String ADD_COMMENT_LIKE_COUNT_SQL =
+            "UPDATE comments SET like_count = like_count + ? WHERE id = ?";
+    private static final String SYNC_POST_LIKE_COUNT_SQL = "UPDATE post SET like_count = " +
+            "(SELECT COUNT(*) FROM likes WHERE post_id = ?) WHERE id = ?";
+    private static final String SYNC_COMMENT_LIKE_COUNT_SQL = "UPDATE comments SET like_count = " +
+            "(SELECT COUNT(*) FROM likes WHERE comment_id = ?) WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PopularityScoreRefresher popularityScoreRefresher;
+    private final TrendingPostTracker trendingPostTracker;
+    private final BoardEntityCache boardEntityCache;
+    private final LikedPostCache likedPostCache;
+    private final FeedVersionTracker feedVersionTracker;
+
+    @Value("${board.likes.async.enabled:false}")
+    private boolean enabled;
+
+    @Value("${board.likes.async.capacity:10000}")
+    private int capacity;
+
+    @Value("${board.likes.async.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    // (대상, 사용자) -> 최종 좋아요 상태
+    private final Map<LikeKey, Boolean> pending = new ConcurrentHashMap<>();
+    private ScheduledExecutorService writer;
+
+    public record LikeKey(LikeType type, Long targetId, Long userId) {
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        writer = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "like-writer"));
+        writer.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("[BOARD] 좋아요 비동기 반영 사용. capacity={} interval={}ms", capacity, flushIntervalMs);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 좋아요/취소 요청 등록 (같은 키의 이전 요청은 덮어씀)
+    public void submit(LikeType type, Long targetId, Long userId, boolean liked) {
+        LikeKey key = new LikeKey(type, targetId, userId);
+        if (pending.size() >= capacity && !pending.containsKey(key)) {
+            throw new BoardException(BoardErrorCode.TOO_MANY_REQUESTS, "좋아요 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        pending.put(key, liked);
+    }
+
+    // 아직 반영되지 않은 요청의 상태 (없으면 null)
+    public Boolean pendingState(LikeType type, Long targetId, Long userId) {
+        return pending.get(new LikeKey(type, targetId, userId));
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("[BOARD] 좋아요 반영 실패", e);
+        }
+    }
+
+    public void flush() {
+        List<Map.Entry<LikeKey, Boolean>> drained = new ArrayList<>();
+        for (Map.Entry<LikeKey, Boolean> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                drained.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, Long> commentDeltas = new HashMap<>();
+            // 실제로 바뀐 게시글 좋아요 (true: 좋아요, false: 취소, null: 드라이버가 결과를 알려주지 않음)
+            Map<LikeKey, Boolean> postChanges = new HashMap<>();
+            Map<Long, Long> postDeltas = transactionTemplate.execute(status -> {
+                Map<Long, Long> deltas = apply(drained, LikeType.POST, INSERT_POST_LIKE_SQL,
+                        DELETE_POST_LIKE_SQL, ADD_POST_LIKE_COUNT_SQL, SYNC_POST_LIKE_COUNT_SQL, postChanges);
+                commentDeltas.putAll(apply(drained, LikeType.COMMENT, INSERT_COMMENT_LIKE_SQL,
+                        DELETE_COMMENT_LIKE_SQL, ADD_COMMENT_LIKE_COUNT_SQL, SYNC_COMMENT_LIKE_COUNT_SQL,
+                        new HashMap<>()));
+                return deltas;
+            });
+            postChanges.forEach((key, liked) -> {
+                if (liked == null) {
+                    likedPostCache.invalidate(key.userId());
+                } else {
+                    likedPostCache.update(key.userId(), key.targetId(), liked);
+                }
+            });
+            // JDBC 로 바꾼 카운터는 Hibernate 가 모르므로 커밋 후 해당 행만 2차 캐시에서 제거
+            boardEntityCache.evictPosts(postDeltas.keySet());
+            boardEntityCache.evictComments(commentDeltas.keySet());
+            if (!postDeltas.isEmpty()) {
+                feedVersionTracker.bump();
+            }
+            postDeltas.forEach((postId, delta) -> {
+                popularityScoreRefresher.markDirty(postId);
+                trendingPostTracker.record(postId, delta * TrendingPostTracker.LIKE_WEIGHT);
+            });
+            log.debug("[BOARD] 좋아요 반영 완료. requests={} posts={}", drained.size(), postDeltas.size());
+        } catch (RuntimeException e) {
+            // 실패 시 그 사이 들어온 요청을 덮어쓰지 않는 범위에서 되돌림
+            drained.forEach(entry -> pending.putIfAbsent(entry.getKey(), entry.getValue()));
+            throw e;
+        }
+    }
+
+    // 한 종류(게시글/댓글)의 좋아요 반영 후 대상별 순증감 반환
+    private Map<Long, Long> apply(List<Map.Entry<LikeKey, Boolean>> drained, LikeType type,
+                                  String insertSql, String deleteSql, String addCountSql, String syncCountSql,
+                                  Map<LikeKey, Boolean> changes) {
+        List<LikeKey> likes = new ArrayList<>();
+        List<LikeKey> unlikes = new ArrayList<>();
+        for (Map.Entry<LikeKey, Boolean> entry : drained) {
+            if (entry.getKey().type() == type) {
+                (entry.getValue() ? likes : unlikes).add(entry.getKey());
+            }
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        List<Long> unknown = new ArrayList<>();
+        accumulate(likes, jdbcTemplate.batchUpdate(insertSql, toArgs(likes)), 1, deltas, unknown, changes);
+        accumulate(unlikes, jdbcTemplate.batchUpdate(deleteSql, toArgs(unlikes)), -1, deltas, unknown, changes);
+
+        List<Object[]> counts = new ArrayList<>();
+        deltas.forEach((targetId, delta) -> {
+            if (delta != 0 && !unknown.contains(targetId)) {
+                counts.add(new Object[]{delta, targetId});
+            }
+        });
+        if (!counts.isEmpty()) {
+            jdbcTemplate.batchUpdate(addCountSql, counts);
+        }
+        // 드라이버가 행 수를 알려주지 않은 경우 해당 대상만 재집계
+        if (!unknown.isEmpty()) {
+            jdbcTemplate.batchUpdate(syncCountSql, unknown.stream().distinct()
+                    .map(targetId -> new Object[]{targetId, targetId}).toList());
+        }
+        // 재집계한 대상도 캐시 제거/점수 갱신 대상에 포함 (증감량은 알 수 없으므로 0)
+        unknown.forEach(targetId -> deltas.putIfAbsent(targetId, 0L));
+        deltas.entrySet().removeIf(entry -> entry.getValue() == 0 && !unknown.contains(entry.getKey()));
+        return deltas;
+    }
+
+    private void accumulate(List<LikeKey> keys, int[] rows, long sign, Map<Long, Long> deltas, List<Long> unknown,
+                            Map<LikeKey, Boolean> changes) {
+        for (int i = 0; i < rows.length; i++) {
+            LikeKey key = keys.get(i);
+            if (rows[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(key.targetId());
+                changes.put(key, null);
+            } else {
+                deltas.merge(key.targetId(), sign * rows[i], Long::sum);
+                if (rows[i] > 0) {
+                    changes.put(key, sign > 0);
+                }
+            }
+        }
+    }
+
+    private List<Object[]> toArgs(List<LikeKey> keys) {
+        return keys.stream().map(key -> new Object[]{key.userId(), key.targetId()}).toList();
+    }
+
+    @PreDestroy
+    public void drain() {
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+    }
+}
@@ -0,0 +1,149 @@
+package backend.Board.service;
+
+import backend.Board.dto.LikeRequest.LikeType;
+import backend.Board.dto.LikeResponse;
+import backend.Board.entity.Comment;
+import backend.Board.entity.Disclosure;
+import backend.Board.entity.Post;
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import backend.Board.repository.CommentRepository;
+import backend.Board.repository.LikeRepository;
+import backend.Board.repository.PostRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글/댓글 좋아요 설정·해제.
+ * 엔티티를 로딩하지 않고 ID 만으로 INSERT ... ON CONFLICT DO NOTHING / DELETE ... RETURNING 과
+ * 카운터 UPDATE 를 한 문장으로 실행하므로, 같은 요청이 중복되어도 결과가 같고 유니크 제약 오류가 나지 않는다.
+ * 비동기 반영 모드(board.likes.async.enabled)에서는 LikeIngestionQueue 에 넣고 바로 응답한다.
+ * 이때는 트랜잭션(DB 커넥션)을 잡지 않도록 SQL 을 실행하는 경로만 TransactionTemplate 으로 감싼다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PopularityScoreRefresher popularityScoreRefresher;
+    private final TrendingPostTracker trendingPostTracker;
+    private final LikeIngestionQueue likeIngestionQueue;
+    private final LikedPostCache likedPostCache;
+    private final BoardEntityCache boardEntityCache;
+    private final FeedVersionTracker feedVersionTracker;
+    private final TransactionTemplate transactionTemplate;
+
+    // 좋아요 설정 (PUT)
+    public LikeResponse like(LikeType type, Long targetId, Long userId) {
+        if (likeIngestionQueue.isEnabled()) {
+            return enqueue(type, targetId, userId, true);
+        }
+        return transactionTemplate.execute(status -> insert(type, targetId, userId));
+    }
+
+    // 좋아요 해제 (DELETE)
+    public LikeResponse unlike(LikeType type, Long targetId, Long userId) {
+        if (likeIngestionQueue.isEnabled()) {
+            return enqueue(type, targetId, userId, false);
+        }
+        return transactionTemplate.execute(status -> delete(type, targetId, userId));
+    }
+
+    // 좋아요 토글 (기존 POST API 호환)
+    public LikeResponse toggle(LikeType type, Long targetId, Long userId) {
+        if (likeIngestionQueue.isEnabled()) {
+            Boolean pending = likeIngestionQueue.pendingState(type, targetId, userId);
+            // 큐에 없을 때만 현재 상태를 조회 (반영 직후 값을 보도록 주 DB 에서 조회)
+            boolean liked = pending != null ? pending : Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                    type == LikeType.POST ?
+                            likeRepository.existsByPostIdAndUserId(targetId, userId) :
+                            likeRepository.existsByCommentIdAndUserId(targetId, userId)));
+            return enqueue(type, targetId, userId, !liked);
+        }
+        return transactionTemplate.execute(status -> {
+            LikeResponse response = insert(type, targetId, userId);
+            return response.isChanged() ? response : delete(type, targetId, userId);
+        });
+    }
+
+    private LikeResponse insert(LikeType type, Long targetId, Long userId) {
+        List<Object[]> result = type == LikeType.POST ?
+                likeRepository.insertPostLike(userId, targetId) :
+                likeRepository.insertCommentLike(userId, targetId);
+        return toResponse(type, targetId, userId, true, result);
+    }
+
+    private LikeResponse delete(LikeType type, Long targetId, Long userId) {
+        List<Object[]> result = type == LikeType.POST ?
+                likeRepository.deletePostLike(userId, targetId) :
+                likeRepository.deleteCommentLike(userId, targetId);
+        return toResponse(type, targetId, userId, false, result);
+    }
+
+    // 비동기 반영 모드: 큐에 넣고 즉시 응답 (좋아요 수는 반영 후 목록/상세에서 확인)
+    private LikeResponse enqueue(LikeType type, Long targetId, Long userId, boolean liked) {
+        // 좋아요 캐시는 실제로 반영된 뒤 LikeIngestionQueue 가 갱신
+        likeIngestionQueue.submit(type, targetId, userId, liked);
+        return LikeResponse.builder()
+                .type(type)
+                .targetId(targetId)
+                .liked(liked)
+                .changed(true)
+                .queued(true)
+                .build();
+    }
+
+    private LikeResponse toResponse(LikeType type, Long targetId, Long userId, boolean liked,
+                                    List<Object[]> result) {
+        Object[] row = result.get(0);
+        boolean changed = ((Number) row[0]).longValue() > 0;
+        if (row[1] == null && !changed) {
+            throw notLikeable(type, targetId);
+        }
+
+        // 커밋 후 반영 (롤백되면 캐시를 바꾸지 않음)
+        if (type == LikeType.POST && row[1] != null) {
+            likedPostCache.update(userId, targetId, liked);
+        }
+        if (changed && type == LikeType.COMMENT) {
+            boardEntityCache.evictComment(targetId);
+        }
+        if (changed && type == LikeType.POST) {
+            boardEntityCache.evictPost(targetId);
+            popularityScoreRefresher.markDirty(targetId);
+            feedVersionTracker.bump();
+            trendingPostTracker.record(targetId,
+                    liked ? TrendingPostTracker.LIKE_WEIGHT : -TrendingPostTracker.LIKE_WEIGHT);
+        }
+
+        return LikeResponse.builder()
+                .type(type)
+                .targetId(targetId)
+                .liked(liked)
+                .changed(changed)
+                .likeCount(row[1] == null ? null : ((Number) row[1]).longValue())
+                .build();
+    }
+
+    // 대상이 없거나 비공개인 경우의 오류 (실패 시에만 조회)
+    private BoardException notLikeable(LikeType type, Long targetId) {
+        if (type == LikeType.POST) {
+            Post post = postRepository.findById(targetId)
+                    .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
+            return post.getDisclosure() == Disclosure.PRIVATE ?
+                    new BoardException(BoardErrorCode.FORBIDDEN, "비공개 게시글에는 좋아요를 할 수 없습니다.") :
+                    new BoardException(BoardErrorCode.POST_NOT_FOUND, "좋아요를 처리할 수 없습니다.");
+        }
+        Comment comment = commentRepository.findById(targetId)
+                .orElseThrow(() -> new BoardException(BoardErrorCode.COMMENT_NOT_FOUND));
+        return comment.getPost().getDisclosure() == Disclosure.PRIVATE ?
+                new BoardException(BoardErrorCode.FORBIDDEN, "비공개 게시글의 댓글에는 좋아요를 할 수 없습니다.") :
+                new BoardException(BoardErrorCode.COMMENT_NOT_FOUND, "좋아요를 처리할 수 없습니다.");
+    }
+}
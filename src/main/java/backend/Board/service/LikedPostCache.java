@@ -0,0 +1,195 @@
+package backend.Board.service;
+
+import backend.Board.repository.LikeRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 사용자별 좋아요한 게시글 ID 캐시 (Roaring 압축 비트맵).
+ * 목록 응답의 likedByCurrentUser 를 DB 조회 없이 계산하기 위해 최근 활동 사용자만 LRU 로 유지한다.
+ * 처음 조회 시 한 번 적재하고, 이후 커밋된 좋아요/취소는 LikeService/LikeIngestionQueue 가 update 로 반영한다.
+ * 적재 도중 바뀐 사용자는 변경 스탬프로 알아내 캐시하지 않는다(다음 조회 때 다시 적재).
+ * 다른 인스턴스에서 반영된 좋아요/취소는 알 수 없으므로 적재 후 board.liked-cache.max-age-ms 가 지나면 다시 적재한다.
+ * 즉 다른 인스턴스를 거친 변경이 likedByCurrentUser 와 목록 ETag 에 반영되기까지 최대 그 시간만큼 늦을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikedPostCache {
+
+    // 사용자별 변경 스탬프 슬롯 수 (사용자 ID 해시로 나눠 메모리를 고정, 충돌 시 불필요한 재적재만 생김)
+    private static final int STAMP_SLOTS = 1024;
+
+    private final LikeRepository likeRepository;
+
+    @Value("${board.liked-cache.max-users:10000}")
+    private int maxUsers;
+
+    @Value("${board.liked-cache.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    private Map<Long, UserLikes> cache;
+    // 좋아요/취소가 반영될 때마다 증가. 적재 전후 값이 다르면 적재 결과가 이미 낡은 것
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_SLOTS);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    // 모든 사용자에 걸쳐 단조 증가 (재적재된 항목이 이전 버전 값과 겹치지 않도록)
+    private final AtomicLong versions = new AtomicLong();
+
+    private static class UserLikes {
+        private final Roaring64Bitmap bitmap = new Roaring64Bitmap();
+        private final long loadedAt = System.currentTimeMillis();
+        private long version;
+
+        private UserLikes(long version) {
+            this.version = version;
+        }
+
+        private boolean expired(long maxAgeMs) {
+            return System.currentTimeMillis() - loadedAt > maxAgeMs;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserLikes> eldest) {
+                boolean evict = size() > maxUsers;
+                if (evict) {
+                    evictions.increment();
+                }
+                return evict;
+            }
+        });
+    }
+
+    // 목록에 포함된 게시글 중 사용자가 좋아요한 게시글 ID
+    public Set<Long> findLikedPostIds(Long userId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Set.of();
+        }
+        UserLikes likes = get(userId);
+        synchronized (likes) {
+            return postIds.stream().filter(likes.bitmap::contains).collect(Collectors.toSet());
+        }
+    }
+
+    // 사용자 좋아요 집합의 버전 (좋아요/취소, 재적재 시마다 바뀜, 목록 ETag 용)
+    public long version(Long userId) {
+        UserLikes likes = get(userId);
+        synchronized (likes) {
+            return likes.version;
+        }
+    }
+
+    // 좋아요/취소 반영 (캐시에 없는 사용자는 다음 조회 때 적재). 트랜잭션 안이면 커밋된 경우에만 반영
+    public void update(Long userId, Long postId, boolean liked) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, postId, liked);
+                }
+            });
+        } else {
+            apply(userId, postId, liked);
+        }
+    }
+
+    // 반영 결과를 알 수 없는 경우 해당 사용자를 캐시에서 제거 (다음 조회 때 재적재)
+    public void invalidate(Long userId) {
+        stamps.incrementAndGet(slot(userId));
+        cache.remove(userId);
+    }
+
+    private void apply(Long userId, Long postId, boolean liked) {
+        // 스탬프를 먼저 올려야 진행 중인 적재가 이 변경을 놓친 결과를 캐시하지 않음
+        stamps.incrementAndGet(slot(userId));
+        UserLikes likes = cache.get(userId);
+        if (likes == null) {
+            return;
+        }
+        synchronized (likes) {
+            if (liked) {
+                likes.bitmap.addLong(postId);
+            } else {
+                likes.bitmap.removeLong(postId);
+            }
+            likes.version = versions.incrementAndGet();
+        }
+    }
+
+    private UserLikes get(Long userId) {
+        UserLikes cached = cache.get(userId);
+        if (cached != null && !cached.expired(maxAgeMs)) {
+            hits.increment();
+            return cached;
+        }
+        if (cached != null) {
+            // 다른 인스턴스에서 바뀌었을 수 있으므로 다시 적재
+            cache.remove(userId, cached);
+            expirations.increment();
+        }
+        misses.increment();
+
+        long stamp = stamps.get(slot(userId));
+        UserLikes loaded = new UserLikes(versions.incrementAndGet());
+        likeRepository.findLikedPostIdsByUserId(userId).forEach(loaded.bitmap::addLong);
+        loaded.bitmap.runOptimize();
+        // apply 의 cache.get 과 같은 잠금 안에서 확인하므로, 확인 후 들어온 변경은 캐시된 항목에 반영됨
+        synchronized (cache) {
+            if (stamps.get(slot(userId)) != stamp) {
+                return loaded;
+            }
+            UserLikes existing = cache.putIfAbsent(userId, loaded);
+            return existing != null ? existing : loaded;
+        }
+    }
+
+    private static int slot(Long userId) {
+        return Long.hashCode(userId) & (STAMP_SLOTS - 1);
+    }
+
+    // 적중률/메모리 사용량 기록
+    @Scheduled(fixedDelayString = "${board.liked-cache.report-interval-ms:300000}")
+    public void report() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        if (total == 0) {
+            return;
+        }
+        long bytes = 0;
+        int users;
+        synchronized (cache) {
+            users = cache.size();
+            for (UserLikes likes : cache.values()) {
+                synchronized (likes) {
+                    bytes += likes.bitmap.getLongSizeInBytes();
+                }
+            }
+        }
+        log.info("[BOARD] 좋아요 캐시 users={} hitRate={}% requests={} evictions={} expirations={} memory={}KB",
+                users, String.format("%.1f", hitCount * 100.0 / total), total, evictions.sum(), expirations.sum(),
+                bytes / 1024);
+    }
+}
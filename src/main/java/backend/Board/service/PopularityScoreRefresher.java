@@ -0,0 +1,85 @@
+package backend.Board.service;
+
+import backend.Board.repository.PostRepository;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * post.popularity_score 주기적 갱신.
+ * 점수는 작성 시각을 가산점으로 둔 시간 불변 값이므로(PostRepository.POPULARITY_SCORE_SQL)
+ * 좋아요/댓글/조회 활동이 있었던 게시글만 재계산한다. 계산식이 절대값이므로 여러 인스턴스가 동시에 돌아도 결과는 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularityScoreRefresher {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final FeedVersionTracker feedVersionTracker;
+    private final BoardEntityCache boardEntityCache;
+
+    private final Set<Long> dirtyPostIds = ConcurrentHashMap.newKeySet();
+    // 조회수 외의 활동이 있었는지 (조회수만 바뀐 주기는 목록 버전을 올리지 않음)
+    private final AtomicBoolean feedChanged = new AtomicBoolean();
+
+    // 활동 발생 게시글 등록 (다음 주기에 재계산)
+    public void markDirty(Long postId) {
+        dirtyPostIds.add(postId);
+        feedChanged.set(true);
+    }
+
+    // 조회수만 바뀐 게시글 등록 (점수는 재계산하되 목록 버전은 그대로)
+    public void markViewed(Long postId) {
+        dirtyPostIds.add(postId);
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${board.popularity.refresh-interval-ms:60000}")
+    public void refresh() {
+        boolean changed = feedChanged.getAndSet(false);
+        List<Long> drained = drainDirty();
+        if (drained.isEmpty()) {
+            return;
+        }
+        int refreshed = 0;
+        try {
+            for (int i = 0; i < drained.size(); i += CHUNK_SIZE) {
+                List<Long> chunk = drained.subList(i, Math.min(i + CHUNK_SIZE, drained.size()));
+                refreshed += postRepository.refreshPopularityScores(chunk);
+                boardEntityCache.evictPosts(chunk);
+            }
+        } catch (RuntimeException e) {
+            // 실패한 게시글은 다음 주기에 다시 시도
+            dirtyPostIds.addAll(drained);
+            if (changed) {
+                feedChanged.set(true);
+            }
+            throw e;
+        }
+        if (refreshed > 0 && changed) {
+            feedVersionTracker.bump(); // 인기순 목록 순서 변경
+        }
+        log.debug("[BOARD] 인기 점수 갱신 완료. refreshed={}", refreshed);
+    }
+
+    private List<Long> drainDirty() {
+        List<Long> drained = new ArrayList<>();
+        Iterator<Long> it = dirtyPostIds.iterator();
+        while (it.hasNext()) {
+            drained.add(it.next());
+            it.remove();
+        }
+        return drained;
+    }
+}
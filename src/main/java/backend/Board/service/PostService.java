@@ -1,31 +1,49 @@
 package backend.Board.service;
 
+import backend.Board.dto.CommentCursorRequest;
+import backend.Board.dto.CommentPageResponse;
+import backend.Board.dto.ContentVersion;
+import backend.Board.dto.PostCursor;
+import backend.Board.dto.PostCursorRequest;
+import backend.Board.dto.PostCursorResponse;
 import backend.Board.dto.PostListResponse;
 import backend.Board.dto.PostPageResponse;
 import backend.Board.dto.PostRequest;
 import backend.Board.dto.PostResponse;
 import backend.Board.dto.PostSearchRequest;
 import backend.Board.dto.PostSortType;
+import backend.Board.dto.PostSummary;
 import backend.Board.dto.PostUpdateRequest;
+import backend.Board.dto.PostVersion;
 import backend.Board.entity.Disclosure;
-import backend.Board.entity.Like;
 import backend.Board.entity.Post;
-import backend.Board.repository.LikeRepository;
+import backend.Board.entity.PostSearchDocument;
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
 import backend.Board.repository.PostRepository;
+import backend.Board.repository.PostSearchRepository;
 import backend.auth.entity.User;
 import backend.auth.service.UserService;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
 @Slf4j
 @Service
@@ -34,37 +52,51 @@ import org.springframework.transaction.annotation.Transactional;
 public class PostService {
 
     private final PostRepository postRepository;
-    private final LikeRepository likeRepository;
+    private final PostSearchRepository postSearchRepository;
     private final UserService userService;
-
-    private Page<Post> getPostsBySortType(PostSortType sortType, Pageable pageable) {
+    private final ViewCountBuffer viewCountBuffer;
+    private final PopularityScoreRefresher popularityScoreRefresher;
+    private final TrendingPostTracker trendingPostTracker;
+    private final CommentService commentService;
+    private final LikedPostCache likedPostCache;
+    private final FeedVersionTracker feedVersionTracker;
+
+    private Page<PostSummary> getPostsBySortType(PostSortType sortType, Pageable pageable) {
         return switch (sortType) {
-            case LIKES -> postRepository.findByDisclosureOrderByLikesDesc(Disclosure.PUBLIC, pageable);
-            case VIEWS -> postRepository.findByDisclosureOrderByViewCountDesc(Disclosure.PUBLIC, pageable);
-            case POPULAR ->
-                    postRepository.findByDisclosureOrderByCreatedAtDesc(Disclosure.PUBLIC, pageable); // 레딧 스코어는 후처리
-            case DATE -> postRepository.findByDisclosureOrderByCreatedAtDesc(Disclosure.PUBLIC, pageable);
+            case LIKES -> postRepository.findPublicSummariesOrderByLikeCount(pageable);
+            case VIEWS -> postRepository.findPublicSummariesOrderByViewCount(pageable);
+            case POPULAR -> postRepository.findPublicSummariesOrderByPopularityScore(pageable);
+            case DATE -> postRepository.findPublicSummariesOrderByCreatedAt(pageable);
         };
     }
 
     // 게시글 상세 조회
-    @Transactional
     public PostResponse getPost(Long postId, Long currentUserId) {
         Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+                .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
 
         // 공개 게시글이거나 본인 게시글인 경우만 조회 가능
         if (post.getDisclosure() == Disclosure.PRIVATE && !post.getUser().getId().equals(currentUserId)) {
-            throw new IllegalArgumentException("접근 권한이 없습니다.");
+            throw new BoardException(BoardErrorCode.FORBIDDEN);
         }
 
-        // 공개 게시글이고 본인이 아닌 경우 조회수 증가
+        // 공개 게시글이고 본인이 아닌 경우 조회수 증가 (버퍼에 누적 후 주기적으로 반영)
         if (post.getDisclosure() == Disclosure.PUBLIC && !post.getUser().getId().equals(currentUserId)) {
-            post.setViewCount(post.getViewCount() + 1);
-            postRepository.save(post);
+            viewCountBuffer.increment(postId);
+            trendingPostTracker.record(postId, TrendingPostTracker.VIEW_WEIGHT);
         }
 
-        return PostResponse.from(post);
+        PostResponse response = PostResponse.from(post);
+        if (post.getDisclosure() == Disclosure.PUBLIC) {
+            response.setViewCount(post.getViewCount() + viewCountBuffer.pendingCount(postId));
+
+            // 댓글은 첫 페이지만 포함 (이후는 /v1/comments/posts/{postId}/page)
+            CommentPageResponse comments = commentService.findCommentPage(
+                    postId, new CommentCursorRequest(), currentUserId);
+            response.setComments(comments.getComments());
+            response.setCommentNextCursor(comments.getNextCursor());
+        }
+        return response;
     }
 
     // 게시글 작성
@@ -82,6 +114,9 @@ public class PostService {
                 .build();
 
         Post savedPost = postRepository.save(post);
+        postSearchRepository.save(PostSearchDocument.from(savedPost));
+        popularityScoreRefresher.markDirty(savedPost.getId()); // 작성 시각 가산점 반영
+        feedVersionTracker.bump();
         return PostResponse.from(savedPost);
     }
 
@@ -89,11 +124,11 @@ public class PostService {
     @Transactional
     public PostResponse updatePost(Long postId, PostUpdateRequest request, Long userId) {
         Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+                .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
 
         // 작성자 확인
         if (!post.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("수정 권한이 없습니다.");
+            throw new BoardException(BoardErrorCode.FORBIDDEN, "수정 권한이 없습니다.");
         }
 
         // 게시글 정보 업데이트
@@ -103,6 +138,12 @@ public class PostService {
         post.setDisclosure(request.getDisclosure());
 
         Post savedPost = postRepository.save(post);
+        postSearchRepository.save(PostSearchDocument.from(savedPost));
+        popularityScoreRefresher.markDirty(postId); // 공개여부 변경 반영
+        feedVersionTracker.bump();
+        if (savedPost.getDisclosure() != Disclosure.PUBLIC) {
+            trendingPostTracker.remove(postId);
+        }
         return PostResponse.from(savedPost);
     }
 
@@ -110,46 +151,18 @@ public class PostService {
     @Transactional
     public void deletePost(Long postId, Long userId) {
         Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+                .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
 
         // 작성자 확인
         if (!post.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("삭제 권한이 없습니다.");
+            throw new BoardException(BoardErrorCode.FORBIDDEN, "삭제 권한이 없습니다.");
         }
 
         // 게시글 삭제
         postRepository.delete(post);
-    }
-
-    // 게시글 좋아요/좋아요 취소
-    @Transactional
-    public boolean toggleLike(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
-
-        // 비공개 게시글은 좋아요 불가
-        if (post.getDisclosure() == Disclosure.PRIVATE) {
-            throw new IllegalArgumentException("비공개 게시글에는 좋아요를 할 수 없습니다.");
-        }
-
-        User user = userService.getUserById(userId);
-
-        // 기존 좋아요 확인
-        boolean existingLike = likeRepository.existsByPostAndUser(post, user);
-
-        if (existingLike) {
-            // 좋아요 취소
-            likeRepository.deleteByPostAndUser(post, user);
-            return false;
-        } else {
-            // 좋아요 추가
-            Like like = Like.builder()
-                    .post(post)
-                    .user(user)
-                    .build();
-            likeRepository.save(like);
-            return true;
-        }
+        postSearchRepository.deleteById(postId);
+        trendingPostTracker.remove(postId);
+        feedVersionTracker.bump();
     }
 
     // ============ 인기글 고정 기능 ============
@@ -158,15 +171,7 @@ public class PostService {
      * 레딧 알고리즘 기반 인기 게시글 4개 조회 (상단 고정용)
      */
     public List<PostListResponse> getPopularPosts() {
-        // 최근 게시글을 더 많이 가져와서 레딧 스코어로 정렬
-        Pageable pageable = PageRequest.of(0, 50); // 50개 가져와서 상위 4개 선택
-        Page<Post> recentPosts = postRepository.findByDisclosureOrderByCreatedAtDesc(Disclosure.PUBLIC, pageable);
-
-        return recentPosts.getContent().stream()
-                .map(PostListResponse::from)
-                .sorted(Comparator.comparing(PostListResponse::getRedditScore).reversed())
-                .limit(4) // 상위 4개만 반환
-                .collect(Collectors.toList());
+        return getPopularPosts(null);
     }
 
     // ============ 검색 기능 ============
@@ -184,43 +189,73 @@ public class PostService {
     /**
      * 검색 조건에 따른 게시글 조회
      */
-    private Page<Post> searchPosts(PostSearchRequest request, Pageable pageable) {
+    private Page<PostSummary> searchPosts(PostSearchRequest request, Pageable pageable) {
+        Page<Long> postIds = searchPostIds(request, pageable);
+        if (postIds == null) {
+            // 검색 조건이 없으면 기본 조회
+            return getPostsBySortType(PostSortType.DATE, pageable);
+        }
+        if (postIds.isEmpty()) {
+            return new PageImpl<>(List.of(), postIds.getPageable(), postIds.getTotalElements());
+        }
+
+        // 검색 결과 순서(관련도)를 유지하며 목록 컬럼을 한 번에 조회
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIdIn(postIds.getContent()).stream()
+                .collect(Collectors.toMap(PostSummary::getId, summary -> summary));
+        List<PostSummary> ordered = postIds.getContent().stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(ordered, postIds.getPageable(), postIds.getTotalElements());
+    }
+
+    private Page<Long> searchPostIds(PostSearchRequest request, Pageable pageable) {
         String keyword = request.getKeyword();
         String title = request.getTitle();
         String content = request.getContent();
         String nickname = request.getNickname();
 
         // 1. 통합 검색 (keyword가 있는 경우) - 최우선
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            return postRepository.findByDisclosureAndKeyword(Disclosure.PUBLIC, keyword.trim(), pageable);
+        if (isNotEmpty(keyword)) {
+            return postRepository.searchPublicIdsByKeyword(toLikePattern(keyword), pageable);
         }
 
         // 2. 복합 검색 조건들
         if (isNotEmpty(title) && isNotEmpty(content)) {
-            return postRepository.findByDisclosureAndTitleAndContent(
-                    Disclosure.PUBLIC, title.trim(), content.trim(), pageable);
+            return postRepository.searchPublicIdsByTitleAndContent(
+                    toLikePattern(title), title.trim(), toLikePattern(content), pageable);
         }
 
         if (isNotEmpty(title) && isNotEmpty(nickname)) {
-            return postRepository.findByDisclosureAndTitleAndNickname(
-                    Disclosure.PUBLIC, title.trim(), nickname.trim(), pageable);
+            return postRepository.searchPublicIdsByTitleAndNickname(
+                    toLikePattern(title), title.trim(), toLikePattern(nickname), pageable);
         }
 
         // 3. 단일 검색 조건들
         if (isNotEmpty(title)) {
-            return postRepository.findByDisclosureAndTitle(Disclosure.PUBLIC, title.trim(), pageable);
+            return postRepository.searchPublicIdsByTitle(toLikePattern(title), title.trim(), pageable);
         }
 
         if (isNotEmpty(content)) {
-            return postRepository.findByDisclosureAndContent(Disclosure.PUBLIC, content.trim(), pageable);
+            return postRepository.searchPublicIdsByContent(toLikePattern(content), pageable);
         }
 
         if (isNotEmpty(nickname)) {
-            return postRepository.findByDisclosureAndNickname(Disclosure.PUBLIC, nickname.trim(), pageable);
+            return postRepository.searchPublicIdsByNickname(toLikePattern(nickname), nickname.trim(), pageable);
         }
 
-        // 검색 조건이 없으면 기본 조회
-        return getPostsBySortType(PostSortType.DATE, pageable);
+        return null;
+    }
+
+    /**
+     * 부분일치 검색 패턴 생성 (LIKE 와일드카드 이스케이프)
+     */
+    private String toLikePattern(String keyword) {
+        String escaped = keyword.trim()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
     }
 
     /**
@@ -235,16 +270,16 @@ public class PostService {
      */
     public PostPageResponse getPublicPosts(PostSearchRequest request, Long currentUserId) {
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        Page<Post> posts;
+        Page<PostSummary> posts;
 
         // 특정 날짜 조회가 있는 경우
         if (request.getDate() != null) {
-            posts = postRepository.findByDisclosureAndDate(Disclosure.PUBLIC, request.getDate(), pageable);
+            posts = postRepository.findPublicSummariesByCreatedAtRange(
+                    request.getDate().atStartOfDay(), request.getDate().plusDays(1).atStartOfDay(), pageable);
         }
         // 감정 필터가 있는 경우
         else if (request.getEmotion() != null) {
-            posts = postRepository.findByDisclosureAndEmotionOrderByCreatedAtDesc(
-                    Disclosure.PUBLIC, request.getEmotion(), pageable);
+            posts = postRepository.findPublicSummariesByEmotion(request.getEmotion(), pageable);
         }
         // 검색 조건이 있는 경우
         else if (hasSearchCondition(request)) {
@@ -259,33 +294,21 @@ public class PostService {
         final Set<Long> likedPostIds; // final로 선언
         if (currentUserId != null) {
             List<Long> postIds = posts.getContent().stream()
-                    .map(Post::getId)
+                    .map(PostSummary::getId)
                     .collect(Collectors.toList());
-            likedPostIds = likeRepository.findLikedPostIdsByUserAndPosts(currentUserId, postIds);
+            likedPostIds = likedPostCache.findLikedPostIds(currentUserId, postIds);
         } else {
             likedPostIds = Collections.emptySet();
         }
 
-        // 인기순의 경우 레딧 알고리즘 적용
-        List<PostListResponse> postResponses;
-        if (request.getSortType() == PostSortType.POPULAR) {
-            postResponses = posts.getContent().stream()
-                    .map(post -> {
-                        PostListResponse response = PostListResponse.from(post);
-                        response.setLikedByCurrentUser(likedPostIds.contains(post.getId()));
-                        return response;
-                    })
-                    .sorted(Comparator.comparing(PostListResponse::getRedditScore).reversed())
-                    .collect(Collectors.toList());
-        } else {
-            postResponses = posts.getContent().stream()
-                    .map(post -> {
-                        PostListResponse response = PostListResponse.from(post);
-                        response.setLikedByCurrentUser(likedPostIds.contains(post.getId()));
-                        return response;
-                    })
-                    .collect(Collectors.toList());
-        }
+        // 인기순도 DB 에서 popularity_score 로 정렬되어 오므로 후처리 정렬 없음
+        List<PostListResponse> postResponses = posts.getContent().stream()
+                .map(post -> {
+                    PostListResponse response = PostListResponse.from(post);
+                    response.setLikedByCurrentUser(likedPostIds.contains(post.getId()));
+                    return response;
+                })
+                .collect(Collectors.toList());
 
         return PostPageResponse.builder()
                 .posts(postResponses)
@@ -300,30 +323,26 @@ public class PostService {
 
     /**
      * 인기 게시글 조회 (좋아요 상태 포함)
+     * 인기 게시글은 TrendingPostTracker 의 메모리 스냅샷에서 가져오고, 좋아요 상태만 요청마다 덧씌운다.
      */
     public List<PostListResponse> getPopularPosts(Long currentUserId) {
-        Pageable pageable = PageRequest.of(0, 50);
-        Page<Post> recentPosts = postRepository.findByDisclosureOrderByCreatedAtDesc(Disclosure.PUBLIC, pageable);
+        List<PostListResponse> topPosts = trendingPostTracker.topPosts();
 
         // 사용자 좋아요 상태를 배치로 조회
         final Set<Long> likedPostIds; // final로 선언
-        if (currentUserId != null) {
-            List<Long> postIds = recentPosts.getContent().stream()
-                    .map(Post::getId)
+        if (currentUserId != null && !topPosts.isEmpty()) {
+            List<Long> postIds = topPosts.stream()
+                    .map(PostListResponse::getId)
                     .collect(Collectors.toList());
-            likedPostIds = likeRepository.findLikedPostIdsByUserAndPosts(currentUserId, postIds);
+            likedPostIds = likedPostCache.findLikedPostIds(currentUserId, postIds);
         } else {
             likedPostIds = Collections.emptySet();
         }
 
-        return recentPosts.getContent().stream()
-                .map(post -> {
-                    PostListResponse response = PostListResponse.from(post);
-                    response.setLikedByCurrentUser(likedPostIds.contains(post.getId()));
-                    return response;
-                })
-                .sorted(Comparator.comparing(PostListResponse::getRedditScore).reversed())
-                .limit(4)
+        return topPosts.stream()
+                .map(post -> post.toBuilder()
+                        .likedByCurrentUser(likedPostIds.contains(post.getId()))
+                        .build())
                 .collect(Collectors.toList());
     }
 
@@ -332,22 +351,23 @@ public class PostService {
      */
     public PostPageResponse getMyPosts(Long userId, PostSearchRequest request) {
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize());
-        Page<Post> posts;
+        Page<PostSummary> posts;
 
         if (request.getDate() != null) {
-            posts = postRepository.findByUserIdAndDate(userId, request.getDate(), pageable);
+            posts = postRepository.findSummariesByUserIdAndCreatedAtRange(userId,
+                    request.getDate().atStartOfDay(), request.getDate().plusDays(1).atStartOfDay(), pageable);
         } else if (request.getKeyword() != null && !request.getKeyword().trim().isEmpty()) {
-            posts = postRepository.findByUserIdAndKeyword(userId, request.getKeyword().trim(), pageable);
+            posts = postRepository.findSummariesByUserIdAndKeyword(userId, request.getKeyword().trim(), pageable);
         } else {
-            posts = postRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
+            posts = postRepository.findSummariesByUserId(userId, pageable);
         }
 
         // 개인 일기장에서는 모든 게시글이 본인 것이므로 좋아요 상태는 항상 확인 필요
         final Set<Long> likedPostIds; // final로 선언
         List<Long> postIds = posts.getContent().stream()
-                .map(Post::getId)
+                .map(PostSummary::getId)
                 .collect(Collectors.toList());
-        likedPostIds = likeRepository.findLikedPostIdsByUserAndPosts(userId, postIds);
+        likedPostIds = likedPostCache.findLikedPostIds(userId, postIds);
 
         List<PostListResponse> postResponses = posts.getContent().stream()
                 .map(post -> {
@@ -367,4 +387,143 @@ public class PostService {
                 .sortType(PostSortType.DATE)
                 .build();
     }
-}
\ No newline at end of file
+
+    // ============ 조건부 GET (ETag / Last-Modified) ============
+
+    /**
+     * 게시글 상세 응답 버전 (조회 권한 확인 포함).
+     * 본문·댓글 매핑 전에 수정 시각과 좋아요/댓글 카운터만으로 계산한다. 조회수는 버퍼링되는 값이라 제외한다.
+     */
+    public ContentVersion getPostVersion(Long postId, Long currentUserId) {
+        PostVersion version = postRepository.findVersionById(postId)
+                .orElseThrow(() -> new BoardException(BoardErrorCode.POST_NOT_FOUND));
+
+        if (version.getDisclosure() == Disclosure.PRIVATE && !version.getUserId().equals(currentUserId)) {
+            throw new BoardException(BoardErrorCode.FORBIDDEN);
+        }
+
+        LocalDateTime lastModified = version.getUpdatedAt();
+        if (version.getCommentsUpdatedAt() != null &&
+                (lastModified == null || version.getCommentsUpdatedAt().isAfter(lastModified))) {
+            lastModified = version.getCommentsUpdatedAt();
+        }
+
+        String eTag = eTag(postId, version.getDisclosure(), version.getUpdatedAt(), version.getLikeCount(),
+                version.getCommentCount(), version.getCommentsUpdatedAt(), version.getCommentLikeCount(),
+                currentUserId);
+        return new ContentVersion(eTag, lastModified == null ? -1 :
+                lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    /**
+     * 공개 게시글 목록 응답 버전.
+     * 인스턴스 간 공유되는 목록 버전(FeedVersionTracker, 메모리에 보관)과 현재 사용자의 좋아요 버전으로 만들므로 DB 를 조회하지 않는다.
+     */
+    public ContentVersion getPublicFeedVersion(PostSearchRequest request, Long currentUserId) {
+        return feedVersion(String.join(",", "public", String.valueOf(request.getPage()),
+                String.valueOf(request.getSize()), String.valueOf(request.getSortType()),
+                String.valueOf(request.getDate()), String.valueOf(request.getEmotion()), request.getKeyword(),
+                request.getTitle(), request.getContent(), request.getNickname()), currentUserId);
+    }
+
+    public ContentVersion getPublicFeedVersion(PostCursorRequest request, Long currentUserId) {
+        return feedVersion(String.join(",", "cursor", request.getCursor(), String.valueOf(request.getSize()),
+                String.valueOf(request.getSortType()), String.valueOf(request.getEmotion())), currentUserId);
+    }
+
+    private ContentVersion feedVersion(String feedKey, Long currentUserId) {
+        String eTag = eTag(feedKey, feedVersionTracker.current(), currentUserId, currentUserId == null ? null : likedPostCache.version(currentUserId));
+        return new ContentVersion(eTag, -1);
+    }
+
+    private String eTag(Object... values) {
+        String raw = Arrays.stream(values).map(String::valueOf).collect(Collectors.joining("|"));
+        return "\"" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // ============ 커서 기반 조회 (무한 스크롤) ============
+
+    /**
+     * 공개 게시글 커서 조회 (좋아요 상태 포함)
+     * OFFSET/COUNT 없이 (정렬 키, ID) 기준으로 다음 페이지를 조회하므로 스크롤 깊이와 무관하게 비용이 일정하다.
+     */
+    public PostCursorResponse getPublicPostsByCursor(PostCursorRequest request, Long currentUserId) {
+        // 감정 필터는 날짜순만 지원
+        PostSortType sortType = request.getEmotion() != null ? PostSortType.DATE : request.getSortType();
+        PostCursor cursor = PostCursor.decode(request.getCursor(), sortType);
+        Limit limit = Limit.of(request.getSize() + 1); // 다음 페이지 존재 여부 확인용 1건 추가
+
+        List<PostSummary> posts;
+        if (request.getEmotion() != null) {
+            posts = postRepository.findPublicFeedByEmotion(request.getEmotion(),
+                    cursor.createdAt(), cursor.getId(), limit);
+        } else {
+            posts = switch (sortType) {
+                case DATE -> postRepository.findPublicFeedByCreatedAt(
+                        cursor.createdAt(), cursor.getId(), limit);
+                case POPULAR -> postRepository.findPublicFeedByPopularityScore(
+                        cursor.doubleKey(), cursor.getId(), limit);
+                case LIKES -> postRepository.findPublicFeedByLikeCount(
+                        cursor.longKey(), cursor.getId(), limit);
+                case VIEWS -> postRepository.findPublicFeedByViewCount(
+                        cursor.longKey(), cursor.getId(), limit);
+            };
+        }
+
+        return toCursorResponse(posts, request.getSize(), sortType, currentUserId);
+    }
+
+    /**
+     * 개인 일기장 커서 조회 (좋아요 상태 포함)
+     */
+    public PostCursorResponse getMyPostsByCursor(Long userId, PostCursorRequest request) {
+        PostCursor cursor = PostCursor.decode(request.getCursor(), PostSortType.DATE);
+        List<PostSummary> posts = postRepository.findFeedByUserId(
+                userId, cursor.createdAt(), cursor.getId(), Limit.of(request.getSize() + 1));
+
+        return toCursorResponse(posts, request.getSize(), PostSortType.DATE, userId);
+    }
+
+    private PostCursorResponse toCursorResponse(List<PostSummary> posts, int size, PostSortType sortType,
+                                                Long currentUserId) {
+        boolean hasNext = posts.size() > size;
+        List<PostSummary> page = hasNext ? posts.subList(0, size) : posts;
+
+        final Set<Long> likedPostIds;
+        if (currentUserId != null && !page.isEmpty()) {
+            List<Long> postIds = page.stream()
+                    .map(PostSummary::getId)
+                    .collect(Collectors.toList());
+            likedPostIds = likedPostCache.findLikedPostIds(currentUserId, postIds);
+        } else {
+            likedPostIds = Collections.emptySet();
+        }
+
+        List<PostListResponse> postResponses = page.stream()
+                .map(post -> {
+                    PostListResponse response = PostListResponse.from(post);
+                    response.setLikedByCurrentUser(likedPostIds.contains(post.getId()));
+                    return response;
+                })
+                .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? nextCursor(page.get(page.size() - 1), sortType).encode() : null;
+
+        return PostCursorResponse.builder()
+                .posts(postResponses)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .sortType(sortType)
+                .build();
+    }
+
+    private PostCursor nextCursor(PostSummary last, PostSortType sortType) {
+        String sortKey = switch (sortType) {
+            case DATE -> last.getCreatedAt().toString();
+            case POPULAR -> String.valueOf(last.getPopularityScore());
+            case LIKES -> String.valueOf(last.getLikeCount());
+            case VIEWS -> String.valueOf(last.getViewCount());
+        };
+        return new PostCursor(sortType, sortKey, last.getId());
+    }
+}
@@ -0,0 +1,204 @@
+package backend.Board.service;
+
+import backend.Board.dto.PostListResponse;
+import backend.Board.dto.PostSummary;
+import backend.Board.entity.Disclosure;
+import backend.Board.repository.PostRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인기 게시글 위젯(/v1/posts/popular)용 실시간 트렌딩 집계.
+ * 커밋된 좋아요/댓글/조회 이벤트를 게시글별 지수 감쇠 점수로 누적하고, 스냅샷 갱신 때 상위 capacity 개만 남긴다.
+ * 점수는 기준 시각(epoch) 대비 가중치로 저장하므로(forward decay) 감쇠를 위해 전체를 다시 계산할 필요가 없다.
+ * 요청 시에는 주기적으로 만들어 둔 상위 게시글 스냅샷만 반환한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingPostTracker {
+
+    // 가중치 (PostListResponse.calculateRedditScore 와 동일)
+    public static final double LIKE_WEIGHT = 10;
+    public static final double COMMENT_WEIGHT = 5;
+    public static final double VIEW_WEIGHT = 0.1;
+
+    private static final double DAILY_DECAY = 0.8; // 24시간마다 20% 감소
+    private static final double GROWTH_PER_MS = -Math.log(DAILY_DECAY) / Duration.ofDays(1).toMillis();
+    private static final double RESCALE_THRESHOLD = 1e9;
+
+    private final PostRepository postRepository;
+
+    @Value("${board.trending.capacity:100}")
+    private int capacity;
+
+    @Value("${board.trending.size:4}")
+    private int size;
+
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock rescaleLock = new ReentrantReadWriteLock();
+    private volatile long epochMillis = System.currentTimeMillis();
+    private volatile boolean seeded = false;
+    private volatile List<PostListResponse> snapshot = List.of();
+
+    // 이벤트 반영 (DB 접근 없음). 트랜잭션 안이면 커밋된 경우에만 반영
+    public void record(Long postId, double weight) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(postId, weight);
+                }
+            });
+        } else {
+            apply(postId, weight);
+        }
+    }
+
+    // 상위 capacity 개 정리는 스냅샷 갱신(refresh) 때만 수행
+    private void apply(Long postId, double weight) {
+        double weighted = weight * growth(System.currentTimeMillis());
+        rescaleLock.readLock().lock();
+        try {
+            // 좋아요 취소/댓글 삭제가 쌓여도 0 아래로 내려가지 않음
+            scores.compute(postId, (id, current) -> Math.max(0, (current == null ? 0 : current) + weighted));
+        } finally {
+            rescaleLock.readLock().unlock();
+        }
+    }
+
+    // 삭제/비공개 전환된 게시글 제외. 트랜잭션 안이면 커밋된 경우에만 제외
+    public void remove(Long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    discard(postId);
+                }
+            });
+        } else {
+            discard(postId);
+        }
+    }
+
+    private void discard(Long postId) {
+        scores.remove(postId);
+        if (snapshot.stream().anyMatch(post -> post.getId().equals(postId))) {
+            snapshot = snapshot.stream()
+                    .filter(post -> !post.getId().equals(postId))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    // 현재 인기 게시글 스냅샷 (likedByCurrentUser 는 호출 측에서 덧씌움)
+    public List<PostListResponse> topPosts() {
+        return snapshot;
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${board.trending.refresh-interval-ms:5000}")
+    public void refresh() {
+        if (!seeded) {
+            seed();
+        }
+        rescaleIfNeeded();
+        trim();
+
+        // 비공개/삭제 게시글이 섞여 있을 수 있으므로 여유 있게 후보를 뽑는다
+        List<Long> candidateIds = rankedIds(size * 2);
+        Map<Long, PostSummary> posts = candidateIds.isEmpty() ? Map.of() :
+                postRepository.findSummariesByIdIn(candidateIds).stream()
+                        .collect(Collectors.toMap(PostSummary::getId, post -> post));
+
+        List<PostListResponse> top = new ArrayList<>();
+        Set<Long> included = new LinkedHashSet<>();
+        for (Long id : candidateIds) {
+            PostSummary post = posts.get(id);
+            if (post == null || post.getDisclosure() != Disclosure.PUBLIC) {
+                scores.remove(id);
+                continue;
+            }
+            if (top.size() < size) {
+                top.add(PostListResponse.from(post));
+                included.add(id);
+            }
+        }
+
+        // 집계된 게시글이 부족하면 저장된 인기 점수 순으로 채움
+        if (top.size() < size) {
+            postRepository.findPublicSummariesOrderByPopularityScore(PageRequest.of(0, size))
+                    .getContent().stream()
+                    .filter(post -> !included.contains(post.getId()))
+                    .limit(size - top.size())
+                    .forEach(post -> top.add(PostListResponse.from(post)));
+        }
+
+        snapshot = List.copyOf(top);
+    }
+
+    // 기동 직후 저장된 인기 점수 상위 게시글로 초기화
+    private void seed() {
+        long now = System.currentTimeMillis();
+        postRepository.findPublicSummariesOrderByPopularityScore(PageRequest.of(0, capacity))
+                .getContent()
+                .forEach(post -> scores.putIfAbsent(post.getId(),
+                        PostListResponse.from(post).getRedditScore() * growth(now)));
+        seeded = true;
+        log.info("[BOARD] 트렌딩 집계 초기화 완료. posts={}", scores.size());
+    }
+
+    // 기준 시각 이후 경과 시간만큼의 가중 배율
+    private double growth(long nowMillis) {
+        return Math.exp(GROWTH_PER_MS * (nowMillis - epochMillis));
+    }
+
+    // 배율이 너무 커지기 전에 기준 시각을 현재로 옮기고 점수를 재조정
+    private void rescaleIfNeeded() {
+        long now = System.currentTimeMillis();
+        double factor = growth(now);
+        if (factor < RESCALE_THRESHOLD) {
+            return;
+        }
+        rescaleLock.writeLock().lock();
+        try {
+            scores.replaceAll((id, score) -> score / factor);
+            epochMillis = now;
+        } finally {
+            rescaleLock.writeLock().unlock();
+        }
+    }
+
+    // 상위 capacity 개만 남기고 제거
+    private void trim() {
+        if (scores.size() <= capacity) {
+            return;
+        }
+        List<Long> ranked = rankedIds(Integer.MAX_VALUE);
+        ranked.subList(capacity, ranked.size()).forEach(scores::remove);
+    }
+
+    private List<Long> rankedIds(int limit) {
+        return scores.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<Long, Double> e) -> e.getValue()).reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,78 @@
+package backend.Board.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 조회수 write-behind 버퍼.
+ * 상세 조회마다 post 행을 UPDATE 하지 않고 게시글별 증가분을 누적한 뒤,
+ * 주기적으로 한 번의 batch UPDATE 로 반영한다. 종료 시 남은 증가분을 모두 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE post SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PopularityScoreRefresher popularityScoreRefresher;
+    private final BoardEntityCache boardEntityCache;
+
+    // 증가/제거를 merge/remove 로만 처리해 flush 중 들어온 증가분도 잃지 않음
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    // 조회수 1 증가 (DB 접근 없음)
+    public void increment(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분
+    public long pendingCount(Long postId) {
+        return pending.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Long postId : List.copyOf(pending.keySet())) {
+            // 꺼낸 뒤의 증가분은 새 항목으로 쌓여 다음 주기에 반영
+            Long delta = pending.remove(postId);
+            if (delta != null && delta > 0) {
+                batch.add(new Object[]{delta, postId});
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            batch.forEach(row -> {
+                popularityScoreRefresher.markViewed((Long) row[1]);
+                boardEntityCache.evictPost((Long) row[1]);
+            });
+            // 조회수만 바뀐 경우 목록 버전은 올리지 않음 (목록의 조회수는 다음 목록 변경 때 갱신)
+            log.debug("[BOARD] 조회수 반영 완료. posts={}", batch.size());
+        } catch (Exception e) {
+            // 반영 실패 시 다음 주기에 다시 시도하도록 되돌림
+            log.warn("[BOARD] 조회수 반영 실패, 다음 주기에 재시도. posts={}", batch.size(), e);
+            for (Object[] row : batch) {
+                pending.merge((Long) row[1], (Long) row[0], Long::sum);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        flush();
+    }
+}
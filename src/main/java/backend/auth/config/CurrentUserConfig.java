@@ -0,0 +1,23 @@
+package backend.auth.config;
+
+import backend.auth.security.CurrentUser;
+import backend.auth.security.CurrentUserArgumentResolver;
+import java.util.List;
+import org.springdoc.core.utils.SpringDocUtils;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class CurrentUserConfig implements WebMvcConfigurer {
+
+    static {
+        // Swagger 문서에 요청 파라미터로 노출하지 않음
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentUser.class);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserArgumentResolver());
+    }
+}
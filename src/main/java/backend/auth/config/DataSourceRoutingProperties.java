@@ -0,0 +1,26 @@
+package backend.auth.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "datasource-routing")
+@Data
+public class DataSourceRoutingProperties {
+    private boolean enabled = false;          // 읽기 전용 트랜잭션을 복제 DB 로 보낼지 여부
+    private List<Replica> replicas = new ArrayList<>();
+    private long readYourWritesMs = 3000;     // 쓰기 후 해당 사용자를 주 DB 로 고정하는 시간
+    private long maxReplicaLagMs = 1000;      // 이보다 지연된 복제 DB 는 제외
+
+    @Data
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 5;
+    }
+}
@@ -0,0 +1,30 @@
+package backend.auth.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * Flyway 실행 순서 조정.
+ * 테이블은 JPA(ddl-auto: update) 가 만들기 때문에, 기본값(JPA 이전 실행) 대신
+ * EntityManagerFactory 초기화가 끝난 뒤 마이그레이션(인덱스/데이터 보정)을 적용한다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    // 자동 설정의 기동 시 migrate 는 건너뜀
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> {
+        };
+    }
+
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public InitializingBean flywayMigrateAfterJpa(Flyway flyway) {
+        return flyway::migrate;
+    }
+}
@@ -0,0 +1,56 @@
+package backend.auth.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2차 캐시 효과 모니터링.
+ * 영역(user/post/comment/counselor)별 적중/실패/적재 수와 쿼리 캐시 적중률,
+ * 세션당 실행한 SQL 수(open-in-view 이므로 대략 요청당 DB 왕복 수)를 주기적으로 로그로 남기고 초기화한다.
+ */
+@Slf4j
+@Component
+public class HibernateCacheStatisticsReporter {
+
+    private final Statistics statistics;
+
+    public HibernateCacheStatisticsReporter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Scheduled(fixedDelayString = "${board.entity-cache.report-interval-ms:300000}",
+            initialDelayString = "${board.entity-cache.report-interval-ms:300000}")
+    public void report() {
+        if (!statistics.isStatisticsEnabled() || statistics.getSessionOpenCount() == 0) {
+            return;
+        }
+
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            long total = stats.getHitCount() + stats.getMissCount();
+            if (total == 0) {
+                continue;
+            }
+            log.info("[CACHE] region={} hitRate={}% hits={} misses={} puts={} entries={}",
+                    region, percent(stats.getHitCount(), total), stats.getHitCount(), stats.getMissCount(),
+                    stats.getPutCount(), stats.getElementCountInMemory());
+        }
+
+        long queryTotal = statistics.getQueryCacheHitCount() + statistics.getQueryCacheMissCount();
+        long sessions = statistics.getSessionOpenCount();
+        log.info("[CACHE] queryCache hitRate={}% requests={} / statementsPerSession={} sessions={}",
+                queryTotal == 0 ? "-" : percent(statistics.getQueryCacheHitCount(), queryTotal), queryTotal,
+                String.format("%.2f", (double) statistics.getPrepareStatementCount() / sessions), sessions);
+
+        statistics.clear();
+    }
+
+    private String percent(long part, long total) {
+        return String.format("%.1f", part * 100.0 / total);
+    }
+}
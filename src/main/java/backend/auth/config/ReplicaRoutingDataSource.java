@@ -0,0 +1,181 @@
+package backend.auth.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 복제 DB 로, 그 외는 주 DB 로 보내는 DataSource.
+ * - 쓰기 트랜잭션을 연 사용자는 readYourWritesMs 동안 읽기도 주 DB 를 사용한다.
+ * - 복제 지연이 maxReplicaLagMs 를 넘거나 연결할 수 없는 복제 DB 는 제외하고, 남은 게 없으면 주 DB 를 사용한다.
+ * - 복제 연결이 끊긴 복제 DB 는 받은 WAL 을 모두 반영했더라도 최신이 아니므로,
+ *   WAL 수신 상태(pg_stat_wal_receiver)와 주 DB 의 현재 WAL 위치를 함께 확인한다.
+ * 같은 인스턴스를 복제 DB 로 지정해도 동작한다 (복구 모드가 아니면 지연 0).
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    // 복구(복제) 모드가 아니거나 주 DB 의 WAL 위치까지 반영했으면 0,
+    // WAL 수신이 끊겼거나 지연을 알 수 없으면 -1, 아니면 마지막 반영 시각 기준 지연(ms)
+    private static final String LAG_SQL = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN -1 " +
+            "WHEN pg_last_wal_replay_lsn() >= CAST(? AS pg_lsn) THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, -1) END";
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final DataSourceRoutingProperties properties;
+
+    private volatile List<String> healthyReplicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final Map<String, Long> replicaLagMs = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> routed = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, Map<String, HikariDataSource> replicas,
+                                    DataSourceRoutingProperties properties) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.properties = properties;
+        this.healthyReplicas = new ArrayList<>(replicas.keySet());
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = route();
+        routed.computeIfAbsent(key, k -> new LongAdder()).increment();
+        return key;
+    }
+
+    private String route() {
+        String user = currentUser();
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (!readOnly) {
+            // 쓰기 트랜잭션: 이후 짧은 시간 동안 이 사용자의 읽기도 주 DB 로
+            if (user != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                pinnedUntil.put(user, System.currentTimeMillis() + properties.getReadYourWritesMs());
+            }
+            return PRIMARY;
+        }
+
+        if (user != null) {
+            Long until = pinnedUntil.get(user);
+            if (until != null && until > System.currentTimeMillis()) {
+                return PRIMARY;
+            }
+        }
+
+        List<String> candidates = healthyReplicas;
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() ||
+                authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    // 복제 지연 확인 및 제외/복귀
+    @Scheduled(fixedDelayString = "${datasource-routing.lag-check-interval-ms:5000}")
+    public void checkReplicas() {
+        String primaryLsn = primaryLsn();
+        List<String> healthy = new ArrayList<>();
+        for (Map.Entry<String, HikariDataSource> entry : replicas.entrySet()) {
+            long lag;
+            try (Connection connection = entry.getValue().getConnection();
+                 PreparedStatement statement = connection.prepareStatement(LAG_SQL)) {
+                statement.setString(1, primaryLsn);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    double value = resultSet.getDouble(1);
+                    lag = value < 0 ? Long.MAX_VALUE : (long) value;
+                }
+                if (lag == Long.MAX_VALUE && healthyReplicas.contains(entry.getKey())) {
+                    log.warn("[DB] 복제 DB WAL 수신 중단 또는 지연 확인 불가. replica={}", entry.getKey());
+                }
+            } catch (Exception e) {
+                lag = Long.MAX_VALUE;
+                log.warn("[DB] 복제 DB 확인 실패. replica={} {}", entry.getKey(), e.getMessage());
+            }
+
+            replicaLagMs.put(entry.getKey(), lag);
+            if (lag <= properties.getMaxReplicaLagMs()) {
+                healthy.add(entry.getKey());
+            } else if (healthyReplicas.contains(entry.getKey())) {
+                log.warn("[DB] 복제 지연으로 읽기 대상에서 제외. replica={} lagMs={}", entry.getKey(), lag);
+            }
+        }
+        healthyReplicas = healthy;
+
+        long now = System.currentTimeMillis();
+        pinnedUntil.values().removeIf(until -> until <= now);
+    }
+
+    // 주 DB 의 현재 WAL 위치 (확인 실패 시 null, 이 경우 복제 DB 는 마지막 반영 시각으로만 판단)
+    private String primaryLsn() {
+        try (Connection connection = primary.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(PRIMARY_LSN_SQL)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        } catch (Exception e) {
+            log.warn("[DB] 주 DB WAL 위치 확인 실패. {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 풀별 커넥션 사용량과 라우팅 횟수 기록
+    @Scheduled(fixedDelayString = "${datasource-routing.metrics-interval-ms:60000}")
+    public void reportMetrics() {
+        report(PRIMARY, primary);
+        replicas.forEach(this::report);
+    }
+
+    private void report(String name, HikariDataSource dataSource) {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        LongAdder count = routed.get(name);
+        log.info("[DB] pool={} routed={} active={} idle={} total={} waiting={} lagMs={}",
+                name, count == null ? 0 : count.sum(),
+                pool == null ? 0 : pool.getActiveConnections(), pool == null ? 0 : pool.getIdleConnections(),
+                pool == null ? 0 : pool.getTotalConnections(), pool == null ? 0 : pool.getThreadsAwaitingConnection(),
+                replicaLagMs.getOrDefault(name, 0L));
+    }
+
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
@@ -6,6 +6,7 @@ import backend.auth.security.JwtRequestFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -81,7 +82,8 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable())
                 .cors(withDefaults())
-                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED))
+                // 이메일/카카오 로그인 모두 JWT 쿠키로 인증하므로 서버 세션을 만들지 않음 (다중 인스턴스, sticky session 불필요)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
 
                         .requestMatchers("/auth/**").permitAll()
@@ -123,13 +125,9 @@ public class SecurityConfig {
 
                         .anyRequest().authenticated()
                 )
-                .formLogin(form -> form
-                        .loginPage("/login")
-                        .permitAll()
-                )
-                .logout(logout -> logout
-                        .permitAll()
-                )
+                // 세션 기반 폼 로그인/로그아웃 대신 /v1/users/register/login, /logout (JWT 쿠키) 사용
+                .formLogin(form -> form.disable())
+                .logout(logout -> logout.disable())
                 .exceptionHandling(config -> config
                         .authenticationEntryPoint(new Http403ForbiddenEntryPoint())
                         .accessDeniedHandler(accessDeniedHandler())
@@ -173,9 +171,9 @@ public class SecurityConfig {
         };
     }
 
-    // 비밀번호 암호화 (BCrypt)
+    // 비밀번호 암호화 (BCrypt, 강도를 올리면 기존 해시는 다음 로그인 때 교체됨)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
\ No newline at end of file
@@ -13,6 +13,9 @@ public class TossPaymentsConfig {
     private String apiUrl;
     private String successUrl;
     private String failUrl;
+    private long timeoutMs = 10000;          // 토스 API 응답 대기 한도 (초과 시 결과 미확정으로 보고 복구 작업이 정리)
+    private long recoveryIntervalMs = 60000; // 승인/취소 도중 중단된 결제 복구 주기
+    private long recoveryAfterMs = 60000;    // 이 시간 이상 CONFIRMING/CANCELING 에 머문 결제만 복구
 
     public String getBaseUrl() {
         return apiUrl;
@@ -3,7 +3,12 @@ package backend.auth.controller;
 import backend.auth.entity.User;
 import backend.auth.dto.KakaoUserInfo;
 import backend.auth.repository.UserRepository;
+import backend.auth.security.CurrentUser;
+import backend.auth.security.JwtUtil;
 import backend.auth.service.KakaoService;
+import backend.auth.service.UserAvailabilityFilter;
+import backend.auth.service.UserService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
@@ -11,7 +16,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 @Controller
 @RequestMapping("/auth")
@@ -21,6 +27,8 @@ public class AuthController {
 
     private final KakaoService kakaoService;
     private final UserRepository userRepository;
+    private final UserService userService;
+    private final UserAvailabilityFilter userAvailabilityFilter;
 
     @GetMapping("/")
     public String home() {
@@ -28,11 +36,8 @@ public class AuthController {
     }
 
     @GetMapping("/kakao/login")
-    public String kakaoLogin(HttpSession session) {
+    public String kakaoLogin() {
         try {
-            // 기존 세션 초기화
-            session.invalidate();
-
             String authUrl = kakaoService.getAuthUrl();
             log.info("=== 카카오 로그인 시작 ===");
             log.info("생성된 카카오 URL: {}", authUrl);
@@ -45,7 +50,7 @@ public class AuthController {
     }
 
     @GetMapping("/kakao/callback")
-    public String kakaoCallback(@RequestParam String code, HttpSession session) {
+    public String kakaoCallback(@RequestParam String code, HttpServletResponse response) {
         try {
             log.info("=== 카카오 콜백 수신 ===");
             log.info("받은 코드: {}", code);
@@ -69,7 +74,8 @@ public class AuthController {
             user.updateLastLoginAt();
             userRepository.save(user);
 
-            session.setAttribute("user", user);
+            // 이메일 로그인과 동일하게 JWT 쿠키로 로그인 (서버 세션 없음)
+            userService.setLoginCookie(response, user);
             log.info("=== 카카오 로그인 성공 ===");
             log.info("사용자: {}, ID: {}", user.getNickName(), user.getId());
 
@@ -83,8 +89,8 @@ public class AuthController {
 
     @GetMapping("/success")
     @ResponseBody
-    public String success(HttpSession session) {
-        User user = (User) session.getAttribute("user");
+    public String success(@CurrentUser Long userId) {
+        User user = userId == null ? null : userRepository.findById(userId).orElse(null);
         if (user != null) {
             return String.format("""
                 <h1>카카오 로그인 성공!</h1>
@@ -124,8 +130,9 @@ public class AuthController {
     }
 
     @GetMapping("/logout")
-    public String logout(HttpSession session) {
-        session.invalidate();
+    public String logout(HttpServletRequest request, HttpServletResponse response) {
+        // refresh token 쿠키는 /v1/users/register 경로로만 전송되므로 access token 의 계열 ID 로 폐기
+        userService.logoutUser((Claims) request.getAttribute(JwtUtil.CLAIMS_ATTRIBUTE), null, response);
         log.info("로그아웃 완료");
         return "redirect:/auth/login-page";
     }
@@ -158,6 +165,7 @@ public class AuthController {
                     .build();
 
             User savedUser = userRepository.save(newUser);
+            userAvailabilityFilter.add(null, savedUser.getNickName());
             log.info("새 사용자 저장 완료: ID={}, 닉네임={}", savedUser.getId(), savedUser.getNickName());
 
             return savedUser;
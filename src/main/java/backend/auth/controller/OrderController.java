@@ -3,11 +3,12 @@ package backend.auth.controller;
 import backend.auth.entity.Order;
 import backend.auth.entity.User;
 import backend.auth.repository.OrderRepository;
+import backend.auth.security.CurrentUser;
+import backend.auth.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import jakarta.servlet.http.HttpSession;
 
 import java.util.List;
 import java.util.Map;
@@ -19,19 +20,21 @@ import java.util.Map;
 public class OrderController {
 
     private final OrderRepository orderRepository;
+    private final UserService userService;
 
     @PostMapping
     public ResponseEntity<?> createOrder(
             @RequestBody Map<String, Object> request,
-            HttpSession session) {
+            @CurrentUser Long userId) {
 
-        User user = (User) session.getAttribute("user");
-        if (user == null) {
+        if (userId == null) {
             log.warn("인증되지 않은 주문 생성 요청");
             return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다"));
         }
 
         try {
+            User user = userService.getUserById(userId);
+
             // 주문 생성
             Order order = Order.builder()
                     .orderId((String) request.get("orderId"))
@@ -55,14 +58,13 @@ public class OrderController {
     }
 
     @GetMapping("/my")
-    public ResponseEntity<?> getMyOrders(HttpSession session) {
-        User user = (User) session.getAttribute("user");
-        if (user == null) {
+    public ResponseEntity<?> getMyOrders(@CurrentUser Long userId) {
+        if (userId == null) {
             return ResponseEntity.status(401).body(Map.of("error", "로그인이 필요합니다"));
         }
 
         try {
-            List<Order> orders = orderRepository.findByUserOrderByCreatedAtDesc(user);
+            List<Order> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(userId);
             return ResponseEntity.ok(orders);
 
         } catch (Exception e) {
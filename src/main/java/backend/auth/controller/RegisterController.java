@@ -1,28 +1,36 @@
 package backend.auth.controller;
 
 import backend.auth.dto.ApiResponse;
+import backend.auth.dto.AvailabilityResponse;
 import backend.auth.dto.LoginRequest;
 import backend.auth.dto.LoginResponse;
 import backend.auth.dto.RegisterRequest;
 import backend.auth.entity.User;
+import backend.auth.exception.PasswordHashingBusyException;
+import backend.auth.security.CurrentUser;
+import backend.auth.security.JwtUtil;
+import backend.auth.security.ClientIpResolver;
+import backend.auth.security.LoginAttemptLimiter;
 import backend.auth.service.UserService;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "[구현 완료] 회원가입 관련 API", description = "회원가입 관련 API")
@@ -33,6 +41,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class RegisterController {
 
     private final UserService userService;
+    private final LoginAttemptLimiter loginAttemptLimiter;
+    private final ClientIpResolver clientIpResolver;
 
     @Operation(summary = "회원가입", description = "이메일, 비밀번호, 닉네임으로 회원가입을 진행합니다.")
     @PostMapping("/signup")
@@ -65,7 +75,7 @@ public class RegisterController {
             );
 
             // 로그인 쿠키 설정
-            userService.setLoginCookie(response, newUser.getEmail());
+            userService.setLoginCookie(response, newUser);
 
             // 로그인 응답 생성
             LoginResponse loginResponse = userService.loginResponse(newUser);
@@ -79,6 +89,10 @@ public class RegisterController {
                     ApiResponse.onFailure("VALIDATION_ERROR", e.getMessage()),
                     HttpStatus.BAD_REQUEST
             );
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.onFailure("SERVER_BUSY", e.getMessage()));
         } catch (Exception e) {
             return new ResponseEntity<>(
                     ApiResponse.onFailure("INTERNAL_ERROR", "회원가입 처리 중 오류가 발생했습니다."),
@@ -87,32 +101,66 @@ public class RegisterController {
         }
     }
 
+    @Operation(summary = "이메일/닉네임 사용 가능 여부", description = "입력 중인 이메일 또는 닉네임이 사용 가능한지 확인합니다. 요청한 항목만 응답에 포함됩니다.")
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<AvailabilityResponse>> checkAvailability(
+            @Parameter(description = "확인할 이메일") @RequestParam(required = false) String email,
+            @Parameter(description = "확인할 닉네임") @RequestParam(required = false) String nickname) {
+        try {
+            AvailabilityResponse availability = AvailabilityResponse.builder()
+                    .emailAvailable(email == null ? null : !userService.existsByEmail(email))
+                    .nicknameAvailable(nickname == null ? null : !userService.existsByNickname(nickname))
+                    .build();
+
+            return ResponseEntity.ok(ApiResponse.onSuccess(availability));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.onFailure("INTERNAL_ERROR", "사용 가능 여부 확인 중 오류가 발생했습니다."));
+        }
+    }
+
     @Operation(summary = "일반 로그인", description = "이메일과 비밀번호로 로그인합니다.")
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<LoginResponse>> login(
             @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,
             HttpServletResponse response) {
 
+        String clientIp = clientIpResolver.resolve(httpRequest);
+
+        // 실패 한도를 넘은 이메일/IP 는 사용자 조회와 해시 비교 전에 거절
+        if (loginAttemptLimiter.isBlocked(request.getEmail(), clientIp)) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginAttemptLimiter.retryAfterSeconds()))
+                    .body(ApiResponse.onFailure("TOO_MANY_ATTEMPTS", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+
         try {
-            // 사용자 조회
-            User user = userService.getUserByEmailOrNull(request.getEmail());
+            // 사용자 조회 및 비밀번호 확인 (해시 비교는 전용 작업 풀에서 실행)
+            User user = userService.authenticate(request.getEmail(), request.getPassword());
 
-            // 사용자 존재 여부 및 비밀번호 확인
-            if (user == null || !userService.matchesPassword(request.getPassword(), user.getPassword())) {
+            if (user == null) {
+                loginAttemptLimiter.recordFailure(request.getEmail(), clientIp);
                 return new ResponseEntity<>(
                         ApiResponse.onFailure("INVALID_CREDENTIALS", "이메일 또는 비밀번호가 올바르지 않습니다."),
                         HttpStatus.UNAUTHORIZED
                 );
             }
 
+            loginAttemptLimiter.recordSuccess(request.getEmail());
+
             // 로그인 쿠키 설정
-            userService.setLoginCookie(response, user.getEmail());
+            userService.setLoginCookie(response, user);
 
             // 로그인 응답 생성
             LoginResponse loginResponse = userService.loginResponse(user);
 
             return ResponseEntity.ok(ApiResponse.onSuccess(loginResponse));
 
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(ApiResponse.onFailure("SERVER_BUSY", e.getMessage()));
         } catch (Exception e) {
             return new ResponseEntity<>(
                     ApiResponse.onFailure("INTERNAL_ERROR", "로그인 처리 중 오류가 발생했습니다."),
@@ -121,20 +169,36 @@ public class RegisterController {
         }
     }
 
-    @PostMapping("/logout")
-    @Operation(summary = "로그아웃", description = "JWT 쿠키를 삭제하여 로그아웃 처리합니다.")
-    public ResponseEntity<ApiResponse<String>> logout(HttpServletResponse response) {
+    @PostMapping("/refresh")
+    @Operation(summary = "토큰 재발급", description = "refresh token 쿠키로 access/refresh token 을 재발급합니다. 재사용된 refresh token 은 해당 로그인 전체를 폐기합니다.")
+    public ResponseEntity<ApiResponse<LoginResponse>> refresh(
+            @Parameter(hidden = true) @CookieValue(name = "refreshToken", required = false) String refreshToken,
+            HttpServletResponse response) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            User user = userService.refreshLogin(refreshToken, response);
+            if (user == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(ApiResponse.onFailure("INVALID_REFRESH_TOKEN", "다시 로그인해주세요."));
+            }
 
-            if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
-                String email = userDetails.getUsername();
-                User user = userService.getUserByEmailOrNull(email);
+            return ResponseEntity.ok(ApiResponse.onSuccess(userService.loginResponse(user)));
 
-                if (user != null) {
-                    userService.logoutUser(user.getId(), response);
-                }
-            }
+        } catch (Exception e) {
+            return new ResponseEntity<>(
+                    ApiResponse.onFailure("INTERNAL_ERROR", "토큰 재발급 중 오류가 발생했습니다."),
+                    HttpStatus.INTERNAL_SERVER_ERROR
+            );
+        }
+    }
+
+    @PostMapping("/logout")
+    @Operation(summary = "로그아웃", description = "토큰을 폐기하고 JWT 쿠키를 삭제하여 로그아웃 처리합니다.")
+    public ResponseEntity<ApiResponse<String>> logout(
+            @Parameter(hidden = true) @CookieValue(name = "refreshToken", required = false) String refreshToken,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+        try {
+            userService.logoutUser((Claims) request.getAttribute(JwtUtil.CLAIMS_ATTRIBUTE), refreshToken, response);
 
             return ResponseEntity.ok(ApiResponse.onSuccess("로그아웃 성공"));
 
@@ -165,17 +229,14 @@ public class RegisterController {
 
     @GetMapping("/me")
     @Operation(summary = "내 정보 조회", description = "현재 로그인한 사용자의 정보를 조회합니다.")
-    public ResponseEntity<ApiResponse<LoginResponse>> getMyInfo() {
+    public ResponseEntity<ApiResponse<LoginResponse>> getMyInfo(@CurrentUser Long userId) {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-            if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
+            if (userId == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(ApiResponse.onFailure("UNAUTHORIZED", "로그인이 필요합니다."));
             }
 
-            String email = ((UserDetails) authentication.getPrincipal()).getUsername();
-            User user = userService.getUserByEmail(email);
+            User user = userService.getUserById(userId);
             LoginResponse userInfo = userService.loginResponse(user);
 
             return ResponseEntity.ok(ApiResponse.onSuccess(userInfo));
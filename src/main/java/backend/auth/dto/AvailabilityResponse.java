@@ -0,0 +1,18 @@
+package backend.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 요청하지 않은 항목은 null (응답에서 생략)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponse {
+    private Boolean emailAvailable;
+    private Boolean nicknameAvailable;
+}
@@ -0,0 +1,15 @@
+package backend.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이메일/닉네임 프로젝션 (UserRepository 의 JPQL 생성자 표현식 결과).
+ * 가입 가능 여부 필터 초기화 시 엔티티를 만들지 않고 두 컬럼만 스트리밍한다.
+ */
+@Getter
+@AllArgsConstructor
+public class UserIdentity {
+    private String email;
+    private String nickname;
+}
@@ -67,12 +67,45 @@ public class Payment {
     public enum PaymentStatus {
         WAITING,    // 결제 대기
         IN_PROGRESS, // 결제 진행중
+        CONFIRMING, // 토스 승인 요청 중 (응답 전 중단되면 복구 작업이 토스 상태로 정리)
         DONE,       // 결제 완료
+        CANCELING,  // 토스 취소 요청 중
         CANCELED,   // 결제 취소
         PARTIAL_CANCELED, // 부분 취소
         ABORTED,    // 결제 중단
         EXPIRED,    // 결제 만료
-        FAILED      // 결제 실패
+        FAILED;     // 결제 실패
+
+        // 토스 응답의 status (READY, WAITING_FOR_DEPOSIT 포함) 변환
+        public static PaymentStatus fromToss(String status) {
+            return switch (status) {
+                case "READY" -> IN_PROGRESS;
+                case "WAITING_FOR_DEPOSIT" -> WAITING;
+                default -> valueOf(status);
+            };
+        }
+
+        public boolean canTransitionTo(PaymentStatus next) {
+            if (next == this) {
+                return true;
+            }
+            return switch (this) {
+                case CONFIRMING -> next != CANCELING;                   // 승인 결과
+                case DONE -> next == CANCELING || next == CANCELED || next == PARTIAL_CANCELED;
+                case CANCELING -> next == CANCELED || next == PARTIAL_CANCELED || next == DONE; // 취소 결과 (실패 시 DONE)
+                case PARTIAL_CANCELED -> next == CANCELING || next == CANCELED;
+                case CANCELED -> false;
+                default -> next != CANCELING;                           // 대기/실패 상태에서 승인 재시도
+            };
+        }
+    }
+
+    // 상태 전이 (허용되지 않은 전이면 예외)
+    public void transitionTo(PaymentStatus next) {
+        if (this.status != null && !this.status.canTransitionTo(next)) {
+            throw new IllegalStateException("Invalid payment status transition: " + this.status + " -> " + next);
+        }
+        this.status = next;
     }
 
     // 비즈니스 메서드
@@ -0,0 +1,42 @@
+package backend.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 access token(jti) / 토큰 계열(family) 목록.
+ * 각 인스턴스가 주기적으로 새 행을 읽어 메모리 deny list 에 반영하고, 만료된 행은 정리한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "revoked_token", indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_revoked_token_created_at", columnList = "created_at")
+})
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // "jti:<토큰 ID>" 또는 "fid:<family ID>"
+    @Column(name = "token_key", nullable = false, length = 64)
+    private String tokenKey;
+
+    // 이 시각 이후에는 해당 키로 발급된 access token 이 모두 만료됨
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,8 @@
+package backend.auth.exception;
+
+// 비밀번호 해시 작업 풀이 가득 차 즉시 거절된 요청 (503)
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException() {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", null, false, false);
+    }
+}
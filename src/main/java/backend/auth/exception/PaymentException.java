@@ -1,11 +1,32 @@
 package backend.auth.exception;
 
 public class PaymentException extends RuntimeException {
+
+    // 토스 API 오류 응답의 HTTP 상태/오류 코드 (토스 응답이 아닌 검증 오류면 null)
+    private final Integer statusCode;
+    private final String errorCode;
+
     public PaymentException(String message) {
-        super(message);
+        this(message, null, null);
     }
 
     public PaymentException(String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = null;
+        this.errorCode = null;
+    }
+
+    public PaymentException(String message, Integer statusCode, String errorCode) {
+        super(message);
+        this.statusCode = statusCode;
+        this.errorCode = errorCode;
+    }
+
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
     }
 }
@@ -2,7 +2,9 @@ package backend.auth.repository;
 
 import backend.auth.entity.Order;
 import backend.auth.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +18,11 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Optional<Order> findByOrderId(String orderId);
 
+    // 같은 주문의 결제 승인/취소를 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.orderId = :orderId")
+    Optional<Order> findByOrderIdForUpdate(@Param("orderId") String orderId);
+
     List<Order> findByUserOrderByCreatedAtDesc(User user);
 
     List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
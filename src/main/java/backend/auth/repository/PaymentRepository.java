@@ -1,8 +1,13 @@
 package backend.auth.repository;
 
 import backend.auth.entity.Payment;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +15,17 @@ import java.util.Optional;
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByPaymentKey(String paymentKey);
     Optional<Payment> findByOrderId(String orderId);
+
+    // 상태 전이 전 같은 결제의 동시 승인/취소/복구를 막기 위한 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.paymentKey = :paymentKey")
+    Optional<Payment> findByPaymentKeyForUpdate(@Param("paymentKey") String paymentKey);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.orderId = :orderId")
+    Optional<Payment> findByOrderIdForUpdate(@Param("orderId") String orderId);
     List<Payment> findByStatus(Payment.PaymentStatus status);
+
+    // 승인/취소 요청 도중 중단된 결제 (복구 대상)
+    List<Payment> findByStatusInAndUpdatedAtBefore(List<Payment.PaymentStatus> statuses, LocalDateTime before);
 }
@@ -0,0 +1,24 @@
+package backend.auth.repository;
+
+import backend.auth.entity.RevokedToken;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    // 기동 시 전체 로드
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+
+    // 주기 동기화 (다른 인스턴스에서 추가된 폐기 목록)
+    List<RevokedToken> findByCreatedAtAfter(LocalDateTime since);
+
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
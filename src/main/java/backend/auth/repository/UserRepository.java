@@ -1,19 +1,40 @@
 package backend.auth.repository;
 
+import backend.auth.dto.UserIdentity;
 import backend.auth.entity.User;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+    // 요청마다 이메일/카카오 ID 로 사용자를 찾으므로 쿼리 캐시 사용 (users 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
 
     Optional<User> findByNickname(String nickname);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByKakaoId(String kakaoId);
 
     boolean existsByEmail(String email);
 
     boolean existsByNickname(String nickname);
+
+    // 가입 가능 여부 필터 초기화 (전체를 메모리에 올리지 않고 스트리밍)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new backend.auth.dto.UserIdentity(u.email, u.nickname) FROM User u")
+    Stream<UserIdentity> streamIdentities();
+
+    // 가입 가능 여부 필터 주기 동기화 (다른 인스턴스의 가입/닉네임 변경)
+    @Query("SELECT new backend.auth.dto.UserIdentity(u.email, u.nickname) FROM User u WHERE u.updatedAt > :since")
+    List<UserIdentity> findIdentitiesChangedSince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,53 @@
+package backend.auth.security;
+
+import backend.auth.repository.UserRepository;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 사용자의 유효 여부(탈퇴/username 변경) 짧은 TTL 캐시.
+ * principal 은 서명된 토큰 클레임으로 만들고, 여기서는 TTL 마다 한 번만 사용자 테이블을 확인한다.
+ * 최근 사용자 max-users 명까지만 유지한다. (LRU)
+ * 탈퇴/username 변경은 캐시를 직접 비우지 않으므로 최대 ttl-ms 뒤에 반영된다.
+ * 즉시 끊어야 하는 세션은 TokenDenyList 로 토큰을 폐기한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedUserCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${auth.user-cache.ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${auth.user-cache.max-users:10000}")
+    private int maxUsers;
+
+    // username 이 null 이면 없는 사용자
+    private record Entry(String username, long expiresAt) {
+    }
+
+    private final Map<Long, Entry> entries = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                    return size() > maxUsers;
+                }
+            });
+
+    // 토큰의 사용자 ID/username 이 현재도 유효한지
+    public boolean isActive(Long userId, String username) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(userId);
+        if (entry == null || entry.expiresAt() < now) {
+            String current = userRepository.findById(userId).map(CustomUserDetails::usernameOf).orElse(null);
+            entry = new Entry(current, now + ttlMs);
+            entries.put(userId, entry);
+        }
+        return username != null && username.equals(entry.username());
+    }
+}
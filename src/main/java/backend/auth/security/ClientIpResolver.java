@@ -0,0 +1,82 @@
+package backend.auth.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 실패 제한용 클라이언트 IP 확인.
+ * 신뢰하는 프록시(auth.login-limit.trusted-proxies, IP 또는 CIDR)가 설정된 경우에만 IP 를 돌려준다.
+ * 프록시 뒤에서 getRemoteAddr() 를 그대로 쓰면 모든 요청이 프록시 IP 하나로 묶여 전체가 함께 잠기기 때문이다.
+ * - 직접 연결(신뢰하지 않는 주소)은 연결 주소를 그대로 사용
+ * - 신뢰하는 프록시를 거친 요청은 X-Forwarded-For 를 오른쪽부터 읽어 처음 나오는 신뢰하지 않는 주소를 사용
+ * 확인할 수 없으면 null (IP 기준 제한을 적용하지 않고 이메일 기준 제한만 적용)
+ */
+@Slf4j
+@Component
+public class ClientIpResolver {
+
+    static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${auth.login-limit.trusted-proxies:}") String trustedProxies) {
+        this.trustedProxies = Arrays.stream(trustedProxies.split(","))
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+        if (this.trustedProxies.isEmpty()) {
+            log.info("[AUTH] 신뢰하는 프록시가 설정되지 않아 로그인 실패 제한은 이메일 기준으로만 적용");
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        if (trustedProxies.isEmpty()) {
+            return null;
+        }
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return null;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!isIpLiteral(hop)) {
+                return null;
+            }
+            if (!isTrusted(hop)) {
+                return hop;
+            }
+        }
+        return null;
+    }
+
+    private boolean isTrusted(String address) {
+        try {
+            return trustedProxies.stream().anyMatch(matcher -> matcher.matches(address));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // 헤더 값으로 DNS 조회가 일어나지 않도록 IP 표기만 허용
+    static boolean isIpLiteral(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        if (value.indexOf(':') >= 0) {
+            return value.chars().allMatch(c -> Character.digit(c, 16) >= 0 || c == ':' || c == '.');
+        }
+        return value.chars().allMatch(c -> (c >= '0' && c <= '9') || c == '.');
+    }
+}
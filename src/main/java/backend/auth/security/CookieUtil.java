@@ -11,6 +11,9 @@ import org.springframework.stereotype.Component;
 @Component
 public class CookieUtil {
 
+    // refresh token 은 재발급/로그아웃 요청에만 전송되도록 경로 제한
+    public static final String REFRESH_TOKEN_PATH = "/v1/users/register";
+
     public String resolveTokenFromCookie(Cookie[] cookies, CookieRule cookieRule) {
         return Arrays.stream(cookies)
                 .filter(cookie -> cookie.getName().equals(cookieRule.getValue()))
@@ -43,6 +46,30 @@ public class CookieUtil {
         response.addHeader("Set-Cookie", cookie.toString());
     }
 
+    public void addRefreshTokenCookie(HttpServletResponse response, String token, long maxAgeSeconds) {
+        ResponseCookie cookie = ResponseCookie.from(CookieRule.REFRESH_TOKEN_NAME.getValue(), token)
+                .httpOnly(true)
+                .secure(false)
+                .path(REFRESH_TOKEN_PATH)
+                .sameSite("Lax")
+                .maxAge(maxAgeSeconds)
+                .build();
+
+        response.addHeader("Set-Cookie", cookie.toString());
+    }
+
+    public void clearRefreshTokenCookie(HttpServletResponse response) {
+        ResponseCookie cookie = ResponseCookie.from(CookieRule.REFRESH_TOKEN_NAME.getValue(), "")
+                .httpOnly(true)
+                .secure(false)
+                .path(REFRESH_TOKEN_PATH)
+                .sameSite("Lax")
+                .maxAge(0)
+                .build();
+
+        response.addHeader("Set-Cookie", cookie.toString());
+    }
+
     // 임시 사용자 ID 쿠키 추가
     public void addTempUserCookie(HttpServletResponse response, String tempUserId, boolean secure) {
         ResponseCookie cookie = ResponseCookie.from(CookieRule.TEMP_USER_ID.getValue(), tempUserId)
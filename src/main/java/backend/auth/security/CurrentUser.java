@@ -0,0 +1,15 @@
+package backend.auth.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 현재 로그인한 사용자를 주입한다. (CurrentUserArgumentResolver)
+ * Long 이면 사용자 ID, CustomUserDetails 면 principal 자체를 받으며, 비로그인 요청이면 null 이다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
@@ -7,16 +7,28 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 @Getter
 public class CustomUserDetails extends org.springframework.security.core.userdetails.User {
+    private static final String KAKAO_USERNAME_PREFIX = "kakao:";
+
     private final Long userId;
     private final String nickName;
 
     public CustomUserDetails(User user) {
+        this(user.getId(), usernameOf(user), user.getNickName());
+    }
+
+    // 토큰 클레임으로 생성 (DB 조회 없음)
+    public CustomUserDetails(Long userId, String username, String nickName) {
         super(
-                user.getEmail(), // 이메일을 username으로 사용
+                username,
                 "",
                 List.of(new SimpleGrantedAuthority("USER"))
         );
-        this.userId = user.getId();
-        this.nickName = user.getNickName();
+        this.userId = userId;
+        this.nickName = nickName;
+    }
+
+    // 이메일을 username 으로 사용, 이메일이 없는 카카오 사용자는 카카오 ID
+    public static String usernameOf(User user) {
+        return user.getEmail() != null ? user.getEmail() : KAKAO_USERNAME_PREFIX + user.getKakaoId();
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package backend.auth.security;
 
 import backend.auth.entity.CookieRule;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -9,6 +10,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -18,6 +20,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtRequestFilter extends OncePerRequestFilter {
@@ -27,6 +30,8 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CookieUtil cookieUtil;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final TokenDenyList tokenDenyList;
 
     @Override
     protected void doFilterInternal(
@@ -43,14 +48,21 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
         String jwt = extractJwtFromCookies(request);
 
-        if (jwt != null && !jwt.isEmpty()) {
+        if (jwt != null && !jwt.isEmpty() && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                String email = jwtUtil.extractEmail(jwt);
-                if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    setAuthentication(email, jwt, request);
+                // 서명/만료 검증과 클레임 추출을 한 번에 처리
+                Claims claims = jwtUtil.extractAllClaims(jwt);
+                // 로그아웃/탈취로 폐기된 토큰 (메모리 deny list 만 확인)
+                if (tokenDenyList.isDenied(claims)) {
+                    log.debug("[AUTH] 폐기된 JWT 로 요청. uri={}", requestURI);
+                } else {
+                    request.setAttribute(JwtUtil.CLAIMS_ATTRIBUTE, claims);
+                    if (claims.getSubject() != null) {
+                        setAuthentication(claims, request);
+                    }
                 }
             } catch (Exception e) {
-                System.out.println("JWT 필터 처리 중 오류: " + e.getMessage());
+                log.debug("[AUTH] JWT 필터 처리 중 오류: {}", e.getMessage());
             }
         }
 
@@ -71,14 +83,25 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         return cookieUtil.resolveTokenFromCookie(cookies, CookieRule.ACCESS_TOKEN_NAME);
     }
 
-    private void setAuthentication(String email, String jwt, HttpServletRequest request) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+    private void setAuthentication(Claims claims, HttpServletRequest request) {
+        String username = claims.getSubject();
+        Long userId = claims.get(JwtUtil.USER_ID_CLAIM, Long.class);
 
-        if (jwtUtil.validateToken(jwt, userDetails)) {
-            UsernamePasswordAuthenticationToken authToken =
-                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authToken);
+        UserDetails userDetails;
+        if (userId != null) {
+            // 클레임으로 principal 구성, 탈퇴/username 변경 여부만 캐시로 확인
+            if (!authenticatedUserCache.isActive(userId, username)) {
+                return;
+            }
+            userDetails = new CustomUserDetails(userId, username, claims.get(JwtUtil.NICKNAME_CLAIM, String.class));
+        } else {
+            // 사용자 ID 클레임이 없는 이전 토큰은 DB 에서 조회
+            userDetails = userDetailsService.loadUserByUsername(username);
         }
+
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
     }
 }
\ No newline at end of file
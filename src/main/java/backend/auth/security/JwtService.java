@@ -1,7 +1,10 @@
 package backend.auth.security;
 
 import backend.auth.entity.CookieRule;
+import backend.auth.entity.User;
+import backend.auth.service.RefreshTokenService;
 import jakarta.servlet.http.HttpServletResponse;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -11,9 +14,17 @@ public class JwtService {
 
     private final JwtUtil jwtUtil;
     private final CookieUtil cookieUtil;
+    private final RefreshTokenService refreshTokenService;
 
-    public void addAccessTokenCookie(HttpServletResponse response, String userEmail) {
-        String token = jwtUtil.generateToken(userEmail);
+    // 로그인: 새 토큰 계열로 access/refresh 토큰 발급
+    public void addLoginCookies(HttpServletResponse response, User user) {
+        String familyId = UUID.randomUUID().toString();
+        addAccessTokenCookie(response, user, familyId);
+        addRefreshTokenCookie(response, refreshTokenService.issue(user.getId(), familyId));
+    }
+
+    public void addAccessTokenCookie(HttpServletResponse response, User user, String familyId) {
+        String token = jwtUtil.generateToken(user, familyId);
 
         // 기존 쿠키 먼저 삭제
         clearAccessTokenCookie(response);
@@ -23,8 +34,10 @@ public class JwtService {
                 CookieRule.ACCESS_TOKEN_NAME.getValue(),
                 token,
                 true); // secure 설정
+    }
 
-        System.out.println("새로운 JWT 토큰 쿠키 설정 완료: " + token.substring(0, 20) + "...");
+    public void addRefreshTokenCookie(HttpServletResponse response, String refreshToken) {
+        cookieUtil.addRefreshTokenCookie(response, refreshToken, refreshTokenService.getRefreshTtlMs() / 1000);
     }
 
     public void clearAccessTokenCookie(HttpServletResponse response) {
@@ -32,7 +45,10 @@ public class JwtService {
         cookieUtil.clearJwtCookie(response,
                 CookieRule.ACCESS_TOKEN_NAME.getValue(),
                 true); // secure 설정
+    }
 
-        System.out.println("JWT 쿠키 삭제 완료");
+    public void clearLoginCookies(HttpServletResponse response) {
+        clearAccessTokenCookie(response);
+        cookieUtil.clearRefreshTokenCookie(response);
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,21 @@
 package backend.auth.security;
 
+import backend.auth.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import java.security.Key;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,65 +24,89 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String SECRET_KEY;
 
-    private static final long EXPIRATION_TIME = 1000 * 60 * 60 * 48; // 2일
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
 
-    // 서명키 생성
-    private Key getSigningKey() {
+    // 폐기는 deny list 로 즉시 반영되지만, 유출된 토큰의 수명 자체도 짧게 유지 (재발급은 refresh token)
+    @Value("${auth.token.access-ttl-ms:900000}")
+    private long accessTokenTtlMs;
+
+    // 요청마다 사용자 테이블을 조회하지 않도록 principal 정보를 클레임에 포함
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String NICKNAME_CLAIM = "nickname";
+
+    // 로그인 단위 토큰 계열 ID (refresh token 과 공유, 로그아웃/탈취 시 계열 단위 폐기)
+    public static final String FAMILY_ID_CLAIM = "fid";
+
+    // 필터에서 검증한 클레임을 담는 요청 속성 (이후 단계에서 다시 파싱하지 않음)
+    public static final String CLAIMS_ATTRIBUTE = JwtUtil.class.getName() + ".CLAIMS";
+
+    // 서명키/파서는 기동 시 한 번만 생성
+    private Key signingKey;
+    private JwtParser parser;
+
+    // 최근 검증한 토큰 (같은 토큰은 서명 검증을 생략하고 만료 시각만 확인, LRU)
+    private final Map<String, Claims> verifiedTokens = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                    return size() > verifiedCacheSize;
+                }
+            });
+
+    @PostConstruct
+    void init() {
         // 수정: Base64 디코딩을 io.jsonwebtoken.io.Decoders 사용으로 변경
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
-    // 토큰 생성 (이메일과 역할을 포함)
-    public String generateToken(String email) {
+    // 토큰 생성 (username(이메일 또는 카카오 ID), 사용자 ID, 닉네임, 토큰 ID, 토큰 계열 ID 포함)
+    public String generateToken(User user, String familyId) {
         Date now = new Date();
-        Date expiration = new Date(now.getTime() + EXPIRATION_TIME);
+        Date expiration = new Date(now.getTime() + accessTokenTtlMs);
 
         return Jwts.builder()
-                .setSubject(email)
+                .setId(UUID.randomUUID().toString())
+                .setSubject(CustomUserDetails.usernameOf(user))
+                .claim(FAMILY_ID_CLAIM, familyId)
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(NICKNAME_CLAIM, user.getNickName())
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     // 이메일 추출
     public String extractEmail(String token) {
-        String email = extractAllClaims(token).getSubject();
-        System.out.println("Extracted Login ID from token: " + email);
-        return email;
+        return extractAllClaims(token).getSubject();
     }
 
-    // 토큰에서 모든 클레임 추출 (Bearer 접두어 제거 포함)
-    private Claims extractAllClaims(String token) {
-        token = token.replace("Bearer ", "");
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
+    // 토큰 검증 후 모든 클레임 추출 (Bearer 접두어 제거 포함, 서명/만료 검증 실패 시 예외)
+    public Claims extractAllClaims(String token) {
+        if (token.startsWith("Bearer ")) {
+            token = token.substring("Bearer ".length());
+        }
 
-    // 토큰 유효성 확인 (이메일 일치 및 만료 여부)
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractEmail(token);
-        boolean isValid = username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-        System.out.println("Validating token for username: " + username + ". Token is valid: " + isValid);
-        return isValid;
-    }
+        Claims cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (cached.getExpiration() != null && cached.getExpiration().before(new Date())) {
+                verifiedTokens.remove(token);
+                throw new ExpiredJwtException(null, cached, "JWT expired at " + cached.getExpiration());
+            }
+            return cached;
+        }
 
-    // 토큰 만료 여부 확인
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = extractAllClaims(token).getExpiration();
-        boolean isExpired = expiration.before(new Date());
-        System.out.println("Token expiration time: " + expiration + ". Is token expired: " + isExpired);
-        return isExpired;
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedTokens.put(token, claims);
+        return claims;
     }
 
     // 토큰 만료 시간 반환
     public Date getExpirationDateFromToken(String token) {
-        Date expiration = extractAllClaims(token).getExpiration();
-        System.out.println("Extracted expiration date from token: " + expiration);
-        return expiration;
+        return extractAllClaims(token).getExpiration();
     }
-}
\ No newline at end of file
+}
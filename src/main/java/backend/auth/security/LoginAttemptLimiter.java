@@ -0,0 +1,176 @@
+package backend.auth.security;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 실패 횟수 제한 (이메일별, 클라이언트 IP별).
+ * 한도를 넘은 시도는 사용자 조회와 BCrypt 비교 전에 거절해 credential stuffing 이 CPU 를 소모하지 못하게 한다.
+ * 실패 횟수는 직전/현재 구간 두 개로 근사한 sliding window 로 세고,
+ * 키 해시로 나눈 stripe 마다 크기 제한 LRU 에 보관해 메모리와 락 경합을 제한한다.
+ */
+@Slf4j
+@Component
+public class LoginAttemptLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final long windowMs;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+
+    private final LongSupplier clock;
+    private final Counters emailCounters;
+    private final Counters ipCounters;
+
+    // 거절로 생략한 사용자 조회 + BCrypt 비교 횟수
+    private final LongAdder blockedByEmail = new LongAdder();
+    private final LongAdder blockedByIp = new LongAdder();
+
+    @Autowired
+    public LoginAttemptLimiter(
+            @Value("${auth.login-limit.window-ms:300000}") long windowMs,
+            @Value("${auth.login-limit.max-failures-per-email:5}") int maxFailuresPerEmail,
+            @Value("${auth.login-limit.max-failures-per-ip:50}") int maxFailuresPerIp,
+            @Value("${auth.login-limit.max-keys:100000}") int maxKeys) {
+        this(windowMs, maxFailuresPerEmail, maxFailuresPerIp, maxKeys, System::currentTimeMillis);
+    }
+
+    // 시각을 지정할 수 있는 생성자 (테스트용)
+    LoginAttemptLimiter(long windowMs, int maxFailuresPerEmail, int maxFailuresPerIp, int maxKeys,
+                        LongSupplier clock) {
+        this.clock = clock;
+        this.windowMs = windowMs;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.emailCounters = new Counters(Math.max(1, maxKeys / STRIPES));
+        this.ipCounters = new Counters(Math.max(1, maxKeys / STRIPES));
+    }
+
+    // 한도를 넘었으면 true (DB/해시 작업 전에 호출)
+    public boolean isBlocked(String email, String clientIp) {
+        long now = clock.getAsLong();
+        if (clientIp != null && ipCounters.estimate(clientIp, now) >= maxFailuresPerIp) {
+            blockedByIp.increment();
+            return true;
+        }
+        if (email != null && emailCounters.estimate(normalize(email), now) >= maxFailuresPerEmail) {
+            blockedByEmail.increment();
+            return true;
+        }
+        return false;
+    }
+
+    public void recordFailure(String email, String clientIp) {
+        long now = clock.getAsLong();
+        if (clientIp != null) {
+            ipCounters.increment(clientIp, now);
+        }
+        if (email != null) {
+            emailCounters.increment(normalize(email), now);
+        }
+    }
+
+    // 로그인 성공 시 해당 이메일의 실패 기록 초기화 (IP 기록은 유지)
+    public void recordSuccess(String email) {
+        if (email != null) {
+            emailCounters.remove(normalize(email));
+        }
+    }
+
+    // 거절된 요청의 Retry-After (현재 구간이 끝날 때까지)
+    public long retryAfterSeconds() {
+        long remaining = windowMs - clock.getAsLong() % windowMs;
+        return Math.max(1, remaining / 1000);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.login-limit.report-interval-ms:300000}",
+            initialDelayString = "${auth.login-limit.report-interval-ms:300000}")
+    public void report() {
+        long byEmail = blockedByEmail.sumThenReset();
+        long byIp = blockedByIp.sumThenReset();
+        if (byEmail == 0 && byIp == 0) {
+            return;
+        }
+        log.info("[AUTH] 로그인 시도 제한 blockedByEmail={} blockedByIp={} (생략한 사용자 조회+BCrypt 비교 {}회)",
+                byEmail, byIp, byEmail + byIp);
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 직전 구간 실패 수를 남은 비율만큼 더해 sliding window 를 근사
+    private static final class Window {
+        private long bucket;
+        private int current;
+        private int previous;
+
+        void roll(long nowBucket) {
+            if (nowBucket == bucket) {
+                return;
+            }
+            previous = nowBucket == bucket + 1 ? current : 0;
+            current = 0;
+            bucket = nowBucket;
+        }
+    }
+
+    private final class Counters {
+        private final Map<String, Window>[] stripes;
+
+        @SuppressWarnings("unchecked")
+        Counters(int maxPerStripe) {
+            stripes = new Map[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                stripes[i] = new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                        return size() > maxPerStripe;
+                    }
+                };
+            }
+        }
+
+        double estimate(String key, long now) {
+            Map<String, Window> stripe = stripe(key);
+            synchronized (stripe) {
+                Window window = stripe.get(key);
+                if (window == null) {
+                    return 0;
+                }
+                window.roll(now / windowMs);
+                double previousWeight = 1 - (double) (now % windowMs) / windowMs;
+                return window.current + window.previous * previousWeight;
+            }
+        }
+
+        void increment(String key, long now) {
+            Map<String, Window> stripe = stripe(key);
+            synchronized (stripe) {
+                Window window = stripe.computeIfAbsent(key, k -> new Window());
+                window.roll(now / windowMs);
+                window.current++;
+            }
+        }
+
+        void remove(String key) {
+            Map<String, Window> stripe = stripe(key);
+            synchronized (stripe) {
+                stripe.remove(key);
+            }
+        }
+
+        private Map<String, Window> stripe(String key) {
+            return stripes[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package backend.auth.security;
+
+import backend.auth.entity.RevokedToken;
+import backend.auth.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 폐기된 access token(jti) / 토큰 계열(family) 메모리 deny list.
+ * 만료 시각을 access token TTL 단위 버킷으로 나눠 Bloom filter 와 정확한 집합에 담고,
+ * 구간이 지난 버킷은 통째로 버린다. 요청마다 DB 를 조회하지 않으며,
+ * 다른 인스턴스의 폐기는 revoked_token 테이블을 짧은 주기로 읽어 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenDenyList {
+
+    public static final String JTI_PREFIX = "jti:";
+    public static final String FAMILY_PREFIX = "fid:";
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30); // 인스턴스 간 시계 차이/늦게 커밋된 행 보정
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${auth.token.access-ttl-ms:900000}")
+    private long bucketMs;
+
+    @Value("${auth.token.deny-list.expected-per-bucket:10000}")
+    private int expectedPerBucket;
+
+    // 만료 시각 구간(만료 시각 / bucketMs) -> 버킷
+    private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+    private volatile LocalDateTime lastSyncedAt;
+
+    private final class Bucket {
+        private final BloomFilter filter = new BloomFilter(expectedPerBucket, FALSE_POSITIVE_RATE);
+        private final Set<String> keys = ConcurrentHashMap.newKeySet();
+
+        void add(String key) {
+            keys.add(key);
+            filter.put(key);
+        }
+
+        // 대부분의 정상 토큰은 Bloom filter 에서 걸러지고, 통과한 경우만 정확히 확인
+        boolean contains(String key) {
+            return filter.mightContain(key) && keys.contains(key);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            sync();
+        } catch (Exception e) {
+            log.warn("[AUTH] 토큰 폐기 목록 초기 로드 실패, 다음 주기에 재시도", e);
+        }
+    }
+
+    // 토큰 ID 또는 토큰 계열이 폐기되었는지 (DB 접근 없음)
+    public boolean isDenied(Claims claims) {
+        if (buckets.isEmpty()) {
+            return false;
+        }
+        String jti = claims.getId();
+        String familyId = claims.get(JwtUtil.FAMILY_ID_CLAIM, String.class);
+        return (jti != null && contains(JTI_PREFIX + jti))
+                || (familyId != null && contains(FAMILY_PREFIX + familyId));
+    }
+
+    // 폐기 등록 (호출 측 트랜잭션에서 저장, 이 인스턴스에는 즉시 반영)
+    public void revoke(String key, long expiresAtMillis) {
+        revokedTokenRepository.save(RevokedToken.builder()
+                .tokenKey(key)
+                .expiresAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault()))
+                .build());
+        add(key, expiresAtMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.revocation-sync-interval-ms:2000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> rows = lastSyncedAt == null
+                ? revokedTokenRepository.findByExpiresAtAfter(now)
+                : revokedTokenRepository.findByCreatedAtAfter(lastSyncedAt.minus(SYNC_OVERLAP));
+        for (RevokedToken row : rows) {
+            add(row.getTokenKey(), row.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+        lastSyncedAt = now;
+
+        // 구간 전체가 만료된 버킷 제거
+        buckets.headMap(System.currentTimeMillis() / bucketMs).clear();
+    }
+
+    private void add(String key, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        buckets.computeIfAbsent(expiresAtMillis / bucketMs, index -> new Bucket()).add(key);
+    }
+
+    private boolean contains(String key) {
+        for (Bucket bucket : buckets.values()) {
+            if (bucket.contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,134 @@
+package backend.auth.service;
+
+import backend.auth.exception.PasswordHashingBusyException;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * 비밀번호 해시/검증 전용 작업 풀.
+ * BCrypt 는 호출마다 수십 ms 의 CPU 를 쓰므로 요청 스레드에서 바로 돌리지 않고 크기와 대기열이 제한된 풀에서 실행한다.
+ * 대기열이 가득 차거나 대기 시간이 초과되면 즉시 PasswordHashingBusyException(503) 으로 거절해
+ * 로그인 폭주가 게시판 등 다른 API 의 CPU 를 잠식하지 않게 한다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMs;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder workNanos = new LongAdder();
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Value("${auth.password.pool-size:0}") int poolSize,
+            @Value("${auth.password.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password.wait-timeout-ms:3000}") long waitTimeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        // 기본값은 코어의 절반 (나머지 코어는 일반 요청 처리용으로 남김)
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    // 저장된 해시가 현재 설정(강도)보다 약한지 (해시 문자열만 확인하므로 풀을 거치지 않음)
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    workNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new PasswordHashingBusyException();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.password.report-interval-ms:300000}",
+            initialDelayString = "${auth.password.report-interval-ms:300000}")
+    public void report() {
+        long done = completed.sumThenReset();
+        long rejectedCount = rejected.sumThenReset();
+        long timedOutCount = timedOut.sumThenReset();
+        long waitNanos = queueWaitNanos.sumThenReset();
+        long busyNanos = workNanos.sumThenReset();
+        if (done == 0 && rejectedCount == 0 && timedOutCount == 0) {
+            return;
+        }
+        log.info("[AUTH] 비밀번호 해시 풀 completed={} rejected={} timedOut={} avgQueueWaitMs={} avgWorkMs={} active={} queued={}",
+                done, rejectedCount, timedOutCount,
+                done == 0 ? "-" : String.format("%.1f", waitNanos / 1e6 / done),
+                done == 0 ? "-" : String.format("%.1f", busyNanos / 1e6 / done),
+                executor.getActiveCount(), executor.getQueue().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,5 +1,6 @@
 package backend.auth.service;
 
+import backend.auth.config.TossPaymentsConfig;
 import backend.auth.dto.PaymentCancelRequest;
 import backend.auth.dto.PaymentConfirmRequest;
 import backend.auth.dto.PaymentConfirmResponse;
@@ -13,24 +14,45 @@ import backend.auth.repository.OrderRepository;
 import backend.auth.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.List;
 import java.util.Optional;
-
+import java.util.Set;
+
+/**
+ * 토스 결제 승인/취소.
+ * 원격 호출 동안 DB 커넥션을 잡지 않도록 (1) 짧은 트랜잭션으로 검증 후 CONFIRMING/CANCELING 기록
+ * (2) 트랜잭션 밖에서 토스 호출 (3) 짧은 트랜잭션으로 결과 기록 의 세 단계로 처리한다.
+ * 응답을 받지 못하고 중단된 결제는 CONFIRMING/CANCELING 으로 남고, 복구 작업이 토스 조회 결과로 정리한다.
+ * 토스가 4xx 로 거절한 경우만 실패로 확정하고, 5xx 나 읽을 수 없는 오류는 결과 미확정으로 남긴다.
+ */
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class PaymentService {
 
+    private static final List<Payment.PaymentStatus> IN_FLIGHT_STATUSES =
+            List.of(Payment.PaymentStatus.CONFIRMING, Payment.PaymentStatus.CANCELING);
+
+    // 4xx 지만 요청이 처리되지 않았다고 볼 수 없는 경우 (시간 초과/과다 요청, 이미 처리된 결제)
+    private static final Set<Integer> UNDECIDED_CLIENT_STATUSES = Set.of(408, 429);
+    private static final Set<String> UNDECIDED_ERROR_CODES =
+            Set.of("ALREADY_PROCESSED_PAYMENT", "ALREADY_CANCELED_PAYMENT");
+
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
     private final TossPaymentsClient tossClient;
+    private final TossPaymentsConfig tossConfig;
+    private final TransactionTemplate transactionTemplate;
 
     private static final DateTimeFormatter[] DATE_FORMATTERS = {
             DateTimeFormatter.ISO_LOCAL_DATE_TIME,
@@ -40,97 +62,83 @@ public class PaymentService {
     };
 
     public PaymentConfirmResponse confirmPayment(PaymentConfirmRequest request) {
+        Long paymentId;
         try {
-            Order order = orderRepository.findByOrderId(request.getOrderId())
-                    .orElseThrow(() -> new OrderNotFoundException("Order not found: " + request.getOrderId()));
-
-            // 금액 검증
-            Long requestAmount = Long.valueOf(request.getAmount());
-            if (!order.getAmount().equals(requestAmount)) {
-                throw new PaymentException("Payment amount mismatch. Expected: " + order.getAmount() + ", Actual: " + requestAmount);
-            }
-
-            Optional<Payment> existingPayment = paymentRepository.findByOrderId(request.getOrderId());
-            if (existingPayment.isPresent() && existingPayment.get().getStatus() == Payment.PaymentStatus.DONE) {
-                throw new PaymentException("Payment already completed for order: " + request.getOrderId());
-            }
+            paymentId = transactionTemplate.execute(status -> reserveConfirm(request));
+        } catch (Exception e) {
+            log.error("Payment confirmation rejected for order: {}", request.getOrderId(), e);
+            return confirmFailedResponse(e.getMessage());
+        }
 
-            TossPaymentResponse tossResponse = tossClient.confirmPayment(
+        TossPaymentResponse tossResponse;
+        try {
+            tossResponse = tossClient.confirmPayment(
                     request.getPaymentKey(),
                     request.getOrderId(),
-                    requestAmount
-            ).block();
-
-            Payment payment = Payment.builder()
-                    .paymentKey(request.getPaymentKey())
-                    .orderId(request.getOrderId())
-                    .orderName(tossResponse.getOrderName()) // orderName 추가
-                    .amount(requestAmount)
-                    .status(Payment.PaymentStatus.valueOf(tossResponse.getStatus()))
-                    .method(tossResponse.getMethod())
-                    .currency(tossResponse.getCurrency())
-                    .customerName(tossResponse.getCustomerName())
-                    .customerEmail(tossResponse.getCustomerEmail())
-                    .paidAt(parseDateTime(tossResponse.getApprovedAt()))
-                    .build();
-
-            if (existingPayment.isPresent()) {
-                Payment existing = existingPayment.get();
-                existing.setStatus(payment.getStatus());
-                existing.setMethod(payment.getMethod());
-                existing.setPaidAt(payment.getPaidAt());
-                existing.setCustomerName(payment.getCustomerName());
-                existing.setCustomerEmail(payment.getCustomerEmail());
-                existing.setOrderName(payment.getOrderName());
-                existing.setCurrency(payment.getCurrency());
-                payment = paymentRepository.save(existing);
-            } else {
-                payment = paymentRepository.save(payment);
+                    Long.valueOf(request.getAmount())
+            ).block(tossTimeout());
+        } catch (PaymentException e) {
+            if (!isRejectedByToss(e)) {
+                // 5xx/상태를 알 수 없는 오류는 승인됐을 수도 있으므로 CONFIRMING 으로 두고 복구 작업에 맡김
+                log.error("Payment confirmation result unknown for order: {}", request.getOrderId(), e);
+                return confirmPendingResponse(e.getMessage());
             }
-
-            order.setStatus(Order.OrderStatus.PAID);
-            orderRepository.save(order);
-
-            log.info("Payment confirmation successful: paymentKey={}, orderId={}",
-                    request.getPaymentKey(), request.getOrderId());
-
-            return PaymentConfirmResponse.builder()
-                    .success(true)
-                    .message("Payment confirmed successfully")
-                    .paymentKey(payment.getPaymentKey())
-                    .orderId(payment.getOrderId())
-                    .orderName(payment.getOrderName())
-                    .status(payment.getStatus().name())
-                    .method(payment.getMethod())
-                    .totalAmount(BigDecimal.valueOf(payment.getAmount()))
-                    .currency(payment.getCurrency())
-                    .approvedAt(payment.getPaidAt())
-                    .build();
-
-        } catch (Exception e) {
+            // 토스가 승인을 거절한 경우만 실패로 확정
             log.error("Payment confirmation failed for order: {}", request.getOrderId(), e);
-            saveFailedPayment(request, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> recordConfirmFailed(paymentId, e.getMessage()));
+            return confirmFailedResponse(e.getMessage());
+        } catch (Exception e) {
+            // 타임아웃/네트워크 오류는 승인 여부를 알 수 없으므로 CONFIRMING 으로 두고 복구 작업에 맡김
+            log.error("Payment confirmation result unknown for order: {}", request.getOrderId(), e);
+            return confirmPendingResponse(e.getMessage());
+        }
+        if (tossResponse == null) {
+            return confirmPendingResponse("Empty response from Toss");
+        }
 
-            return PaymentConfirmResponse.builder()
-                    .success(false)
-                    .message(e.getMessage())
-                    .errorCode("PAYMENT_CONFIRM_FAILED")
-                    .errorMessage(e.getMessage())
-                    .build();
+        Payment payment;
+        try {
+            payment = transactionTemplate.execute(status -> applyTossResult(
+                    paymentRepository.findById(paymentId)
+                            .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + paymentId)),
+                    tossResponse));
+        } catch (Exception e) {
+            log.error("Failed to record payment confirmation for order: {}", request.getOrderId(), e);
+            return confirmPendingResponse(e.getMessage());
         }
+
+        log.info("Payment confirmation successful: paymentKey={}, orderId={}",
+                request.getPaymentKey(), request.getOrderId());
+
+        return PaymentConfirmResponse.builder()
+                .success(true)
+                .message("Payment confirmed successfully")
+                .paymentKey(payment.getPaymentKey())
+                .orderId(payment.getOrderId())
+                .orderName(payment.getOrderName())
+                .status(payment.getStatus().name())
+                .method(payment.getMethod())
+                .totalAmount(BigDecimal.valueOf(payment.getAmount()))
+                .currency(payment.getCurrency())
+                .approvedAt(payment.getPaidAt())
+                .build();
     }
 
-    @Transactional
     public Payment getPaymentByKey(String paymentKey) {
         Payment payment = paymentRepository.findByPaymentKey(paymentKey)
                 .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + paymentKey));
 
         if (payment.getStatus() == Payment.PaymentStatus.WAITING) {
             try {
-                TossPaymentResponse latestInfo = tossClient.getPayment(paymentKey).block();
+                TossPaymentResponse latestInfo = tossClient.getPayment(paymentKey).block(tossTimeout());
                 if (latestInfo != null) {
-                    updatePaymentFromTossResponse(payment, latestInfo);
-                    payment = paymentRepository.save(payment);
+                    payment = transactionTemplate.execute(status -> {
+                        Payment locked = paymentRepository.findByPaymentKeyForUpdate(paymentKey)
+                                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + paymentKey));
+                        return locked.getStatus() == Payment.PaymentStatus.WAITING
+                                ? applyTossResult(locked, latestInfo)
+                                : locked;
+                    });
                     log.info("Payment status updated from Toss: paymentKey={}, status={}",
                             paymentKey, payment.getStatus());
                 }
@@ -143,64 +151,185 @@ public class PaymentService {
     }
 
     public Payment cancelPayment(String paymentKey, PaymentCancelRequest request) {
-        Payment payment = paymentRepository.findByPaymentKey(paymentKey)
-                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + paymentKey));
+        Payment reserved = transactionTemplate.execute(status -> reserveCancel(paymentKey, request));
 
-        if (payment.getStatus() != Payment.PaymentStatus.DONE) {
-            throw new PaymentException("Only completed payments can be canceled. Current status: " + payment.getStatus());
+        BigDecimal cancelAmount = request.getCancelAmount();
+        if (cancelAmount == null) {
+            cancelAmount = BigDecimal.valueOf(reserved.getAmount());
         }
 
+        TossPaymentResponse cancelResponse;
         try {
-            BigDecimal cancelAmount = request.getCancelAmount();
-            if (cancelAmount == null) {
-                cancelAmount = BigDecimal.valueOf(payment.getAmount());
-            }
-
-            TossPaymentResponse cancelResponse = tossClient.cancelPayment(
+            cancelResponse = tossClient.cancelPayment(
                     paymentKey,
                     request.getCancelReason(),
                     cancelAmount
-            ).block();
+            ).block(tossTimeout());
+        } catch (PaymentException e) {
+            if (!isRejectedByToss(e)) {
+                log.error("Payment cancellation result unknown for {}: {}", paymentKey, e.getMessage());
+                throw new PaymentException("Payment cancellation is being verified: " + e.getMessage());
+            }
+            // 토스가 취소를 거절하면 결제 완료 상태로 되돌림
+            log.error("Payment cancellation failed for {}: {}", paymentKey, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> recordCancelFailed(reserved.getId()));
+            throw new PaymentException("Payment cancellation failed: " + e.getMessage());
+        } catch (Exception e) {
+            log.error("Payment cancellation result unknown for {}: {}", paymentKey, e.getMessage());
+            throw new PaymentException("Payment cancellation is being verified: " + e.getMessage());
+        }
+        if (cancelResponse == null) {
+            throw new PaymentException("Payment cancellation is being verified: empty response from Toss");
+        }
 
-            payment.setStatus(Payment.PaymentStatus.CANCELED);
-            payment.setCancelReason(request.getCancelReason());
-            payment.setCanceledAt(parseDateTime(cancelResponse.getCanceledAt()));
+        Payment payment = transactionTemplate.execute(status -> applyTossResult(
+                paymentRepository.findById(reserved.getId())
+                        .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + paymentKey)),
+                cancelResponse));
 
-            paymentRepository.save(payment);
+        log.info("Payment cancellation successful: paymentKey={}, reason={}",
+                paymentKey, request.getCancelReason());
 
-            Order order = orderRepository.findByOrderId(payment.getOrderId())
-                    .orElseThrow(() -> new OrderNotFoundException("Order not found: " + payment.getOrderId()));
-            order.setStatus(Order.OrderStatus.CANCELED);
-            orderRepository.save(order);
+        return payment;
+    }
 
-            log.info("Payment cancellation successful: paymentKey={}, reason={}",
-                    paymentKey, request.getCancelReason());
+    // 승인/취소 요청 도중 중단되어 CONFIRMING/CANCELING 에 남은 결제를 토스 조회 결과로 정리
+    @Scheduled(fixedDelayString = "${toss.payments.recovery-interval-ms:60000}")
+    public void recoverInFlightPayments() {
+        LocalDateTime before = LocalDateTime.now().minus(Duration.ofMillis(tossConfig.getRecoveryAfterMs()));
+        for (Payment payment : paymentRepository.findByStatusInAndUpdatedAtBefore(IN_FLIGHT_STATUSES, before)) {
+            String paymentKey = payment.getPaymentKey();
+            try {
+                TossPaymentResponse latestInfo = tossClient.getPayment(paymentKey).block(tossTimeout());
+                if (latestInfo == null) {
+                    continue;
+                }
+                Payment recovered = transactionTemplate.execute(status -> {
+                    Payment locked = paymentRepository.findByPaymentKeyForUpdate(paymentKey).orElse(null);
+                    if (locked == null || !IN_FLIGHT_STATUSES.contains(locked.getStatus())) {
+                        return locked;
+                    }
+                    return applyTossResult(locked, latestInfo);
+                });
+                log.info("In-flight payment recovered: paymentKey={}, status={}",
+                        paymentKey, recovered == null ? null : recovered.getStatus());
+            } catch (Exception e) {
+                log.warn("In-flight payment recovery failed for {}: {}", paymentKey, e.getMessage());
+            }
+        }
+    }
 
-            return payment;
+    // (1) 승인 전 검증 후 CONFIRMING 기록 (같은 주문의 동시 승인은 주문 행 잠금으로 직렬화)
+    private Long reserveConfirm(PaymentConfirmRequest request) {
+        Order order = orderRepository.findByOrderIdForUpdate(request.getOrderId())
+                .orElseThrow(() -> new OrderNotFoundException("Order not found: " + request.getOrderId()));
 
-        } catch (Exception e) {
-            log.error("Payment cancellation failed for {}: {}", paymentKey, e.getMessage());
-            throw new PaymentException("Payment cancellation failed: " + e.getMessage());
+        // 금액 검증
+        Long requestAmount = Long.valueOf(request.getAmount());
+        if (!order.getAmount().equals(requestAmount)) {
+            throw new PaymentException("Payment amount mismatch. Expected: " + order.getAmount() + ", Actual: " + requestAmount);
         }
-    }
 
-    private void saveFailedPayment(PaymentConfirmRequest request, String failReason) {
-        try {
-            Payment failedPayment = Payment.builder()
-                    .paymentKey(request.getPaymentKey())
+        Payment payment = paymentRepository.findByOrderIdForUpdate(request.getOrderId()).orElse(null);
+        if (payment != null && payment.getStatus() == Payment.PaymentStatus.DONE) {
+            throw new PaymentException("Payment already completed for order: " + request.getOrderId());
+        }
+        if (payment != null && payment.getStatus() == Payment.PaymentStatus.CONFIRMING) {
+            throw new PaymentException("Payment confirmation already in progress for order: " + request.getOrderId());
+        }
+
+        if (payment == null) {
+            payment = Payment.builder()
                     .orderId(request.getOrderId())
-                    .amount(Long.valueOf(request.getAmount()))
-                    .status(Payment.PaymentStatus.FAILED)
-                    .failReason(failReason)
                     .build();
+        }
+        payment.setPaymentKey(request.getPaymentKey());
+        payment.setAmount(requestAmount);
+        payment.setFailReason(null);
+        payment.transitionTo(Payment.PaymentStatus.CONFIRMING);
 
-            paymentRepository.save(failedPayment);
-            log.info("Failed payment info saved: paymentKey={}, reason={}",
-                    request.getPaymentKey(), failReason);
+        return paymentRepository.save(payment).getId();
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to save failed payment info: {}", e.getMessage());
+    // (1) 취소 전 검증 후 CANCELING 기록
+    private Payment reserveCancel(String paymentKey, PaymentCancelRequest request) {
+        Payment payment = paymentRepository.findByPaymentKeyForUpdate(paymentKey)
+                .orElseThrow(() -> new PaymentNotFoundException("Payment not found: " + paymentKey));
+
+        if (payment.getStatus() != Payment.PaymentStatus.DONE) {
+            throw new PaymentException("Only completed payments can be canceled. Current status: " + payment.getStatus());
+        }
+
+        payment.transitionTo(Payment.PaymentStatus.CANCELING);
+        payment.setCancelReason(request.getCancelReason());
+        return paymentRepository.save(payment);
+    }
+
+    // (3) 토스 응답(승인/취소/조회)을 결제와 주문에 반영
+    private Payment applyTossResult(Payment payment, TossPaymentResponse tossResponse) {
+        payment.transitionTo(Payment.PaymentStatus.fromToss(tossResponse.getStatus()));
+        updatePaymentFromTossResponse(payment, tossResponse);
+
+        Order.OrderStatus orderStatus = switch (payment.getStatus()) {
+            case DONE -> Order.OrderStatus.PAID;
+            case CANCELED -> Order.OrderStatus.CANCELED;
+            default -> null;
+        };
+        if (orderStatus != null) {
+            Order order = orderRepository.findByOrderId(payment.getOrderId())
+                    .orElseThrow(() -> new OrderNotFoundException("Order not found: " + payment.getOrderId()));
+            order.setStatus(orderStatus);
+            orderRepository.save(order);
         }
+
+        return paymentRepository.save(payment);
+    }
+
+    private void recordConfirmFailed(Long paymentId, String failReason) {
+        paymentRepository.findById(paymentId).ifPresent(payment -> {
+            payment.transitionTo(Payment.PaymentStatus.FAILED);
+            payment.setFailReason(failReason);
+            paymentRepository.save(payment);
+            log.info("Failed payment info saved: paymentKey={}, reason={}", payment.getPaymentKey(), failReason);
+        });
+    }
+
+    private void recordCancelFailed(Long paymentId) {
+        paymentRepository.findById(paymentId).ifPresent(payment -> {
+            payment.transitionTo(Payment.PaymentStatus.DONE);
+            paymentRepository.save(payment);
+        });
+    }
+
+    // 토스가 요청을 처리하지 않고 거절했는지 (4xx). 5xx 나 상태 코드가 없는 오류는 결과를 알 수 없는 것으로 봄
+    static boolean isRejectedByToss(PaymentException e) {
+        Integer statusCode = e.getStatusCode();
+        return statusCode != null && statusCode >= 400 && statusCode < 500
+                && !UNDECIDED_CLIENT_STATUSES.contains(statusCode)
+                && (e.getErrorCode() == null || !UNDECIDED_ERROR_CODES.contains(e.getErrorCode()));
+    }
+
+    private Duration tossTimeout() {
+        return Duration.ofMillis(tossConfig.getTimeoutMs());
+    }
+
+    private PaymentConfirmResponse confirmFailedResponse(String message) {
+        return PaymentConfirmResponse.builder()
+                .success(false)
+                .message(message)
+                .errorCode("PAYMENT_CONFIRM_FAILED")
+                .errorMessage(message)
+                .build();
+    }
+
+    // 승인 결과를 아직 모르는 경우 (복구 작업 후 상태 조회로 확인)
+    private PaymentConfirmResponse confirmPendingResponse(String message) {
+        return PaymentConfirmResponse.builder()
+                .success(false)
+                .message("Payment confirmation is being verified. Please check the payment status again later.")
+                .errorCode("PAYMENT_CONFIRM_PENDING")
+                .errorMessage(message)
+                .build();
     }
 
     @Transactional(readOnly = true)
@@ -237,7 +366,9 @@ public class PaymentService {
 
     private void updatePaymentFromTossResponse(Payment payment, TossPaymentResponse tossResponse) {
         try {
-            payment.setStatus(Payment.PaymentStatus.valueOf(tossResponse.getStatus()));
+            if (tossResponse.getOrderName() != null) {
+                payment.setOrderName(tossResponse.getOrderName());
+            }
             payment.setMethod(tossResponse.getMethod());
             payment.setCurrency(tossResponse.getCurrency());
 
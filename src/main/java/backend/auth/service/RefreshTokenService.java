@@ -0,0 +1,140 @@
+package backend.auth.service;
+
+import backend.auth.entity.RefreshToken;
+import backend.auth.repository.RefreshTokenRepository;
+import backend.auth.repository.RevokedTokenRepository;
+import backend.auth.security.TokenDenyList;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * refresh token 발급/회전/폐기.
+ * 토큰은 사용할 때마다 새 토큰으로 교체되며, 이미 교체된 토큰이 다시 들어오면 탈취로 보고
+ * 같은 계열(family)의 refresh token 과 그 계열로 발급된 access token 을 모두 폐기한다.
+ * 단, 교체 직후 reuse-grace-ms 안에 다시 들어온 토큰(동시 요청, 응답 유실 후 재시도)은 탈취로 보지 않고
+ * 같은 계열의 새 토큰을 한 번 더 발급한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenDenyList tokenDenyList;
+
+    @Value("${auth.token.refresh-ttl-ms:1209600000}")
+    private long refreshTtlMs;
+
+    @Value("${auth.token.access-ttl-ms:900000}")
+    private long accessTtlMs;
+
+    @Value("${auth.token.reuse-grace-ms:10000}")
+    private long reuseGraceMs;
+
+    // 회전 결과 (새 refresh token 원문 포함)
+    public record Rotation(Long userId, String familyId, String refreshToken) {
+    }
+
+    public long getRefreshTtlMs() {
+        return refreshTtlMs;
+    }
+
+    // 새 refresh token 발급 (원문은 반환만 하고 해시만 저장)
+    @Transactional
+    public String issue(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshTtlMs)))
+                .build());
+        return rawToken;
+    }
+
+    // 회전 (유효하지 않거나 재사용된 토큰이면 null)
+    @Transactional
+    public Rotation rotate(String rawToken) {
+        if (rawToken == null || rawToken.isEmpty()) {
+            return null;
+        }
+        RefreshToken token = refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken)).orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        if (token == null || token.getRevokedAt() != null || token.getExpiresAt().isBefore(now)) {
+            return null;
+        }
+        if (token.getUsedAt() != null && withinReuseGrace(token, now)) {
+            log.debug("[AUTH] 유예 시간 안의 refresh token 재사용, 새 토큰 발급. userId={}", token.getUserId());
+            String next = issue(token.getUserId(), token.getFamilyId());
+            return new Rotation(token.getUserId(), token.getFamilyId(), next);
+        }
+        if (token.getUsedAt() != null) {
+            log.warn("[AUTH] 이미 회전된 refresh token 재사용 감지, 토큰 계열 폐기. userId={}", token.getUserId());
+            revokeFamily(token.getFamilyId());
+            return null;
+        }
+
+        token.setUsedAt(now);
+        String next = issue(token.getUserId(), token.getFamilyId());
+        return new Rotation(token.getUserId(), token.getFamilyId(), next);
+    }
+
+    private boolean withinReuseGrace(RefreshToken token, LocalDateTime now) {
+        return token.getUsedAt().plus(Duration.ofMillis(reuseGraceMs)).isAfter(now);
+    }
+
+    // 토큰 계열 폐기 (refresh token + 이 계열로 발급된 access token)
+    @Transactional
+    public void revokeFamily(String familyId) {
+        refreshTokenRepository.revokeFamily(familyId, LocalDateTime.now());
+        // 계열의 access token 은 길어야 access TTL 뒤에 만료되므로 그때까지만 deny list 에 유지
+        tokenDenyList.revoke(TokenDenyList.FAMILY_PREFIX + familyId, System.currentTimeMillis() + accessTtlMs);
+    }
+
+    // refresh token 원문으로 계열 폐기 (access token 이 이미 만료된 로그아웃)
+    @Transactional
+    public void revoke(String rawToken) {
+        if (rawToken == null || rawToken.isEmpty()) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHashForUpdate(hash(rawToken))
+                .ifPresent(token -> revokeFamily(token.getFamilyId()));
+    }
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${auth.token.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        int revokedTokens = revokedTokenRepository.deleteExpired(now);
+        log.debug("[AUTH] 만료 토큰 정리 완료. refreshTokens={} revokedTokens={}", refreshTokens, revokedTokens);
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
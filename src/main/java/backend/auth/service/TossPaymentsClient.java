@@ -3,11 +3,14 @@ package backend.auth.service;
 import backend.auth.config.TossPaymentsConfig;
 import backend.auth.dto.TossPaymentResponse;
 import backend.auth.exception.PaymentException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
@@ -22,6 +25,8 @@ import java.util.Map;
 @Slf4j
 public class TossPaymentsClient {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final TossPaymentsConfig config;
     private final WebClient webClient;
 
@@ -52,13 +57,7 @@ public class TossPaymentsClient {
                 .header("Content-Type", "application/json")
                 .bodyValue(requestBody)
                 .retrieve()
-                .onStatus(HttpStatusCode::isError, response -> {
-                    return response.bodyToMono(String.class)
-                            .flatMap(errorBody -> {
-                                log.error("Toss API Error: {}", errorBody);
-                                return Mono.error(new PaymentException("Payment confirmation failed: " + errorBody));
-                            });
-                })
+                .onStatus(HttpStatusCode::isError, response -> toPaymentException("Payment confirmation", response))
                 .bodyToMono(TossPaymentResponse.class);
     }
 
@@ -67,13 +66,7 @@ public class TossPaymentsClient {
                 .uri(config.getBaseUrl() + "/payments/" + paymentKey)
                 .header("Authorization", getAuthorizationHeader())
                 .retrieve()
-                .onStatus(HttpStatusCode::isError, response -> {
-                    return response.bodyToMono(String.class)
-                            .flatMap(errorBody -> {
-                                log.error("Toss API Error: {}", errorBody);
-                                return Mono.error(new PaymentException("Payment inquiry failed: " + errorBody));
-                            });
-                })
+                .onStatus(HttpStatusCode::isError, response -> toPaymentException("Payment inquiry", response))
                 .bodyToMono(TossPaymentResponse.class);
     }
 
@@ -91,13 +84,28 @@ public class TossPaymentsClient {
                 .header("Content-Type", "application/json")
                 .bodyValue(requestBody)
                 .retrieve()
-                .onStatus(HttpStatusCode::isError, response -> {
-                    return response.bodyToMono(String.class)
-                            .flatMap(errorBody -> {
-                                log.error("Toss API Error: {}", errorBody);
-                                return Mono.error(new PaymentException("Payment cancellation failed: " + errorBody));
-                            });
-                })
+                .onStatus(HttpStatusCode::isError, response -> toPaymentException("Payment cancellation", response))
                 .bodyToMono(TossPaymentResponse.class);
     }
-}
\ No newline at end of file
+
+    // 오류 응답을 상태 코드/토스 오류 코드를 담은 PaymentException 으로 변환 (본문이 없거나 JSON 이 아니어도 상태 코드는 유지)
+    private Mono<PaymentException> toPaymentException(String action, ClientResponse response) {
+        int statusCode = response.statusCode().value();
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .flatMap(errorBody -> {
+                    log.error("Toss API Error: status={} body={}", statusCode, errorBody);
+                    return Mono.error(new PaymentException(action + " failed: " + errorBody,
+                            statusCode, errorCode(errorBody)));
+                });
+    }
+
+    private String errorCode(String errorBody) {
+        try {
+            JsonNode code = OBJECT_MAPPER.readTree(errorBody).get("code");
+            return code == null || !code.isTextual() ? null : code.asText();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package backend.auth.service;
+
+import backend.auth.dto.UserIdentity;
+import backend.auth.repository.UserRepository;
+import backend.auth.security.BloomFilter;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 가입된 이메일/닉네임 Bloom filter.
+ * "확실히 없음" 이면 DB 를 조회하지 않고 사용 가능으로 판단하고, "있을 수도 있음" 일 때만 exists 쿼리를 실행한다.
+ * 기동 시 users 전체를 스트리밍해 만들고, 다른 인스턴스의 가입/닉네임 변경은 updated_at 기준으로 주기적으로 반영한다.
+ * 필터가 틀려도 최종 판정은 users 의 unique 제약이 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserAvailabilityFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30); // 인스턴스 간 시계 차이/늦게 커밋된 행 보정
+
+    private final UserRepository userRepository;
+
+    @Value("${auth.availability.expected-users:1000000}")
+    private int expectedUsers;
+
+    // 탈퇴/닉네임 변경으로 남은 항목 정리 및 용량 재계산 주기
+    @Value("${auth.availability.rebuild-interval-ms:86400000}")
+    private long rebuildIntervalMs;
+
+    private record Filters(BloomFilter emails, BloomFilter nicknames) {
+    }
+
+    private volatile Filters current;   // null 이면 초기화 전 (모두 DB 확인)
+    private volatile Filters building;  // 재구성 중 추가된 항목도 새 필터에 반영
+    private volatile LocalDateTime lastSyncedAt;
+    private volatile long lastRebuiltAt;
+
+    private final LongAdder skippedQueries = new LongAdder();
+    private final LongAdder databaseQueries = new LongAdder();
+
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return record(filters == null || filters.emails().mightContain(email));
+    }
+
+    public boolean mightContainNickname(String nickname) {
+        Filters filters = current;
+        return record(filters == null || filters.nicknames().mightContain(nickname));
+    }
+
+    // 가입/닉네임 변경 직후 이 인스턴스에 즉시 반영
+    public void add(String email, String nickname) {
+        addTo(current, email, nickname);
+        addTo(building, email, nickname);
+    }
+
+    @Transactional(readOnly = true)
+    @Scheduled(fixedDelayString = "${auth.availability.sync-interval-ms:5000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        if (current == null || System.currentTimeMillis() - lastRebuiltAt >= rebuildIntervalMs) {
+            rebuild(now);
+            return;
+        }
+
+        userRepository.findIdentitiesChangedSince(lastSyncedAt.minus(SYNC_OVERLAP))
+                .forEach(user -> add(user.getEmail(), user.getNickname()));
+        lastSyncedAt = now;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.availability.report-interval-ms:300000}",
+            initialDelayString = "${auth.availability.report-interval-ms:300000}")
+    public void report() {
+        long skipped = skippedQueries.sumThenReset();
+        long queried = databaseQueries.sumThenReset();
+        if (skipped + queried == 0) {
+            return;
+        }
+        log.info("[AUTH] 가입 가능 여부 확인 checks={} skippedQueries={} databaseQueries={}",
+                skipped + queried, skipped, queried);
+    }
+
+    private void rebuild(LocalDateTime now) {
+        long count = userRepository.count();
+        int capacity = (int) Math.min(Integer.MAX_VALUE, Math.max(expectedUsers, count * 2));
+        Filters next = new Filters(
+                new BloomFilter(capacity, FALSE_POSITIVE_RATE),
+                new BloomFilter(capacity, FALSE_POSITIVE_RATE));
+
+        building = next;
+        try (Stream<UserIdentity> users = userRepository.streamIdentities()) {
+            users.forEach(user -> addTo(next, user.getEmail(), user.getNickname()));
+            current = next;
+        } finally {
+            building = null;
+        }
+
+        lastSyncedAt = now;
+        lastRebuiltAt = System.currentTimeMillis();
+        log.info("[AUTH] 가입 가능 여부 필터 구성 완료. users={} capacity={}", count, capacity);
+    }
+
+    private boolean record(boolean mightContain) {
+        (mightContain ? databaseQueries : skippedQueries).increment();
+        return mightContain;
+    }
+
+    private static void addTo(Filters filters, String email, String nickname) {
+        if (filters == null) {
+            return;
+        }
+        if (email != null) {
+            filters.emails().put(email);
+        }
+        if (nickname != null) {
+            filters.nicknames().put(nickname);
+        }
+    }
+}
@@ -2,18 +2,20 @@ package backend.auth.service;
 
 import backend.auth.dto.LoginResponse;
 import backend.auth.entity.User;
+import backend.auth.exception.PasswordHashingBusyException;
 import backend.auth.repository.UserRepository;
+import backend.auth.security.CustomUserDetails;
 import backend.auth.security.JwtService;
+import backend.auth.security.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
@@ -21,9 +23,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final JwtService jwtService;
+    private final RefreshTokenService refreshTokenService;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final PasswordValidator passwordValidator;
+    private final UserAvailabilityFilter userAvailabilityFilter;
 
     public User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
@@ -34,15 +38,45 @@ public class UserService {
         return userRepository.findByEmail(email).orElse(null);
     }
 
-    public void setLoginCookie(HttpServletResponse response, String email) {
-        jwtService.addAccessTokenCookie(response, email);
+    public void setLoginCookie(HttpServletResponse response, User user) {
+        jwtService.addLoginCookies(response, user);
     }
 
-    public boolean matchesPassword(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+    // refresh token 회전 후 access/refresh 쿠키 재발급 (유효하지 않으면 쿠키 삭제 후 null)
+    public User refreshLogin(String refreshToken, HttpServletResponse response) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        User user = rotation == null ? null : userRepository.findById(rotation.userId()).orElse(null);
+        if (user == null) {
+            jwtService.clearLoginCookies(response);
+            return null;
+        }
+
+        jwtService.addAccessTokenCookie(response, user, rotation.familyId());
+        jwtService.addRefreshTokenCookie(response, rotation.refreshToken());
+        return user;
     }
 
-    @Transactional
+    // 이메일 로그인 (이메일/비밀번호가 맞지 않으면 null)
+    public User authenticate(String email, String rawPassword) {
+        User user = userRepository.findByEmail(email).orElse(null);
+        if (user == null || user.getPassword() == null
+                || !passwordHashingService.matches(rawPassword, user.getPassword())) {
+            return null;
+        }
+
+        // 설정된 강도보다 약하게 저장된 해시는 로그인 성공 시 새 강도로 교체
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            try {
+                user.setPassword(passwordHashingService.encode(rawPassword));
+                userRepository.save(user);
+            } catch (PasswordHashingBusyException e) {
+                log.debug("[AUTH] 비밀번호 재해시 보류 (작업 풀 포화). userId={}", user.getId());
+            }
+        }
+        return user;
+    }
+
+    // 해시 대기/계산 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 처리
     public void resetPassword(String email, String newPassword) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
@@ -51,7 +85,7 @@ public class UserService {
             throw new IllegalArgumentException("비밀번호 형식이 올바르지 않습니다.\n" + passwordValidator.getPasswordRules());
         }
 
-        String encoded = passwordEncoder.encode(newPassword);
+        String encoded = passwordHashingService.encode(newPassword);
         user.setPassword(encoded);
         userRepository.save(user);
     }
@@ -63,15 +97,15 @@ public class UserService {
                 .build();
     }
 
-    @Transactional
+    // 해시 대기/계산 동안 DB 커넥션을 잡지 않도록 트랜잭션 없이 처리 (중복은 unique 제약으로 최종 확인)
     public User registerUser(String email, String password, String nickName) {
-        // 이메일 중복 확인
-        if (userRepository.existsByEmail(email)) {
+        // 이메일 중복 확인 (필터에 없으면 DB 조회 생략)
+        if (existsByEmail(email)) {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
 
         // 닉네임 중복 확인
-        if (userRepository.existsByNickname(nickName)) {
+        if (existsByNickname(nickName)) {
             throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
         }
 
@@ -80,7 +114,7 @@ public class UserService {
             throw new IllegalArgumentException("비밀번호 형식이 올바르지 않습니다.\n" + passwordValidator.getPasswordRules());
         }
 
-        String encodedPassword = passwordEncoder.encode(password);
+        String encodedPassword = passwordHashingService.encode(password);
 
         User user = User.builder()
                 .email(email)
@@ -88,23 +122,31 @@ public class UserService {
                 .nickname(nickName)
                 .build();
 
-        return userRepository.save(user);
+        User saved;
+        try {
+            saved = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // 사전 확인 이후 다른 요청이 먼저 가입한 경우 (unique 제약이 최종 판정)
+            throw new IllegalArgumentException("이미 사용 중인 이메일 또는 닉네임입니다.");
+        }
+        userAvailabilityFilter.add(saved.getEmail(), saved.getNickName());
+        return saved;
     }
 
+    // "확실히 없음" 이면 DB 를 조회하지 않음
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return userAvailabilityFilter.mightContainEmail(email) && userRepository.existsByEmail(email);
     }
 
     public boolean existsByNickname(String nickname) {
-        return userRepository.existsByNickname(nickname);
+        return userAvailabilityFilter.mightContainNickname(nickname) && userRepository.existsByNickname(nickname);
     }
 
     public Long getAuthenticatedUserId() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if (authentication != null && authentication.getPrincipal() instanceof UserDetails) {
-            String email = ((UserDetails) authentication.getPrincipal()).getUsername();
-            return getUserByEmail(email).getId();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails user) {
+            return user.getUserId();
         }
         throw new IllegalArgumentException("User is not authenticated.");
     }
@@ -114,12 +156,17 @@ public class UserService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.: " + userId));
     }
 
-    @Transactional
-    public void logoutUser(Long userId, HttpServletResponse response) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    // 로그아웃: 토큰 계열을 폐기해 이미 발급된 access token 도 즉시 무효화
+    public void logoutUser(Claims claims, String refreshToken, HttpServletResponse response) {
+        String familyId = claims == null ? null : claims.get(JwtUtil.FAMILY_ID_CLAIM, String.class);
+        if (familyId != null) {
+            refreshTokenService.revokeFamily(familyId);
+        } else {
+            // access token 이 이미 만료된 경우 refresh token 으로 계열 확인
+            refreshTokenService.revoke(refreshToken);
+        }
 
-        jwtService.clearAccessTokenCookie(response);
+        jwtService.clearLoginCookies(response);
     }
 
     public Optional<User> findByEmail(String email) {
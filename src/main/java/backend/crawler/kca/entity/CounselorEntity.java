@@ -1,12 +1,15 @@
 package backend.crawler.kca.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "counselor")
 @Table(name = "counselor_kca",
         indexes = {
                 @Index(name="ux_counselor_source", columnList="source,sourceId", unique = true),
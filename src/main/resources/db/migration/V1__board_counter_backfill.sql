@@ -0,0 +1,9 @@
+-- 비정규화 카운터(like_count, comment_count) 도입 이전 데이터 보정
+-- 테이블/컬럼은 JPA(ddl-auto) 가 먼저 생성하므로 이 스크립트는 데이터만 다룬다.
+
+UPDATE post p SET
+    like_count = (SELECT COUNT(*) FROM likes l WHERE l.post_id = p.id),
+    comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id);
+
+UPDATE comments c SET
+    like_count = (SELECT COUNT(*) FROM likes l WHERE l.comment_id = c.id);
@@ -0,0 +1,20 @@
+-- 공개 게시글 검색용 pg_trgm 인덱스 (post_search)
+-- 검색 쿼리는 항상 disclosure = 'PUBLIC' 리터럴 조건을 포함하므로 공개 게시글만 색인한다.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_post_search_title_trgm
+    ON post_search USING gin (title gin_trgm_ops) WHERE disclosure = 'PUBLIC';
+CREATE INDEX IF NOT EXISTS idx_post_search_content_trgm
+    ON post_search USING gin (content gin_trgm_ops) WHERE disclosure = 'PUBLIC';
+CREATE INDEX IF NOT EXISTS idx_post_search_nickname_trgm
+    ON post_search USING gin (nickname gin_trgm_ops) WHERE disclosure = 'PUBLIC';
+
+-- 검색 테이블 도입 이전 게시글 색인
+INSERT INTO post_search (post_id, title, content, nickname, disclosure, created_at)
+SELECT p.id, p.title, p.content, u.nickname, p.disclosure, p.created_at
+FROM post p LEFT JOIN users u ON u.user_id = p.user_id
+ON CONFLICT (post_id) DO NOTHING;
+
+DELETE FROM post_search s
+WHERE NOT EXISTS (SELECT 1 FROM post p WHERE p.id = s.post_id);
@@ -0,0 +1,53 @@
+-- Board 조회 쿼리별 인덱스
+-- 공개 목록/피드 쿼리는 PostRepository.PUBLIC_ONLY 리터럴 조건을 쓰므로 disclosure = 'PUBLIC' 부분 인덱스로 충분하다.
+-- 정렬 키 뒤에 id DESC 를 두어 OFFSET 페이징과 커서(keyset) 페이징이 같은 인덱스를 사용한다.
+
+-- 기존 전체 인덱스(disclosure 선두 컬럼)는 부분 인덱스로 대체
+DROP INDEX IF EXISTS idx_post_disclosure_created;
+DROP INDEX IF EXISTS idx_post_disclosure_popularity;
+DROP INDEX IF EXISTS idx_post_disclosure_likes;
+DROP INDEX IF EXISTS idx_post_disclosure_views;
+DROP INDEX IF EXISTS idx_post_search_disclosure_created;
+
+-- post: 공개 목록 (날짜순 / 날짜 범위 / 커서)
+CREATE INDEX IF NOT EXISTS idx_post_public_created
+    ON post (created_at DESC, id DESC) WHERE disclosure = 'PUBLIC';
+-- post: 인기순 목록과 커서 (findPublicSummariesOrderByPopularityScore, findPublicFeedByPopularityScore)
+CREATE INDEX IF NOT EXISTS idx_post_public_popularity
+    ON post (popularity_score DESC, id DESC) WHERE disclosure = 'PUBLIC';
+-- post: 좋아요순
+CREATE INDEX IF NOT EXISTS idx_post_public_likes
+    ON post (like_count DESC, id DESC) WHERE disclosure = 'PUBLIC';
+-- post: 조회수순
+CREATE INDEX IF NOT EXISTS idx_post_public_views
+    ON post (view_count DESC, id DESC) WHERE disclosure = 'PUBLIC';
+-- post: 댓글수순
+CREATE INDEX IF NOT EXISTS idx_post_public_comments
+    ON post (comment_count DESC, id DESC) WHERE disclosure = 'PUBLIC';
+-- post: 감정 필터 (날짜순)
+CREATE INDEX IF NOT EXISTS idx_post_public_emotion_created
+    ON post (emotion, created_at DESC, id DESC) WHERE disclosure = 'PUBLIC';
+-- post: 개인 일기장 (전체 / 날짜 범위 / 커서). JPA @Index 로도 선언되어 있다.
+CREATE INDEX IF NOT EXISTS idx_post_user_created
+    ON post (user_id, created_at DESC, id DESC);
+
+-- post_search: 검색 결과 정렬 (날짜순)
+CREATE INDEX IF NOT EXISTS idx_post_search_public_created
+    ON post_search (created_at DESC, post_id DESC) WHERE disclosure = 'PUBLIC';
+
+-- comments: 게시글의 최상위 댓글 (작성순)
+CREATE INDEX IF NOT EXISTS idx_comments_post_root_created
+    ON comments (post_id, created_at) WHERE parent_id IS NULL;
+-- comments: 대댓글 (작성순)
+CREATE INDEX IF NOT EXISTS idx_comments_parent_created
+    ON comments (parent_id, created_at) WHERE parent_id IS NOT NULL;
+-- comments: 게시글별 댓글 수 / 게시글 삭제 시 연쇄 삭제
+CREATE INDEX IF NOT EXISTS idx_comments_post
+    ON comments (post_id);
+
+-- likes: (user_id, post_id), (user_id, comment_id) 는 유니크 제약 인덱스가 담당
+-- 게시글/댓글별 좋아요 수 집계 및 연쇄 삭제
+CREATE INDEX IF NOT EXISTS idx_likes_post
+    ON likes (post_id) WHERE post_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_likes_comment
+    ON likes (comment_id) WHERE comment_id IS NOT NULL;
@@ -0,0 +1,3 @@
+-- 가입 가능 여부 필터의 주기 동기화용 (UserRepository.findIdentitiesChangedSince)
+CREATE INDEX IF NOT EXISTS idx_users_updated_at
+    ON users (updated_at);
@@ -0,0 +1,6 @@
+-- 결제 상태에 CONFIRMING/CANCELING 추가 (Payment.PaymentStatus)
+-- 기존 테이블의 enum CHECK 제약은 ddl-auto: update 로 갱신되지 않으므로 새 목록으로 다시 만든다
+ALTER TABLE payments DROP CONSTRAINT IF EXISTS payments_status_check;
+ALTER TABLE payments ADD CONSTRAINT payments_status_check
+    CHECK (status IN ('WAITING', 'IN_PROGRESS', 'CONFIRMING', 'DONE', 'CANCELING', 'CANCELED',
+                      'PARTIAL_CANCELED', 'ABORTED', 'EXPIRED', 'FAILED'));
@@ -0,0 +1,7 @@
+-- 인기 점수를 시간 불변 로그 점수로 전환 (PostRepository.POPULARITY_SCORE_SQL 과 같은 식)
+-- ln(1 + 활동 점수) + 작성 시각(epoch 초) / (86400 / ln(1.25))
+-- 이후에는 활동이 있었던 게시글만 PopularityScoreRefresher 가 재계산한다.
+UPDATE post SET popularity_score = CASE WHEN disclosure = 'PUBLIC' THEN
+        ln(1 + like_count * 10 + comment_count * 5 + view_count * 0.1)
+        + EXTRACT(EPOCH FROM created_at) / (86400 / ln(1.25))
+    ELSE 0 END;
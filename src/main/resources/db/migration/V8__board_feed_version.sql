@@ -0,0 +1,6 @@
+-- 공개 게시글 목록 ETag 용 공유 버전 (FeedVersionTracker 가 주기적으로 올리고 읽음, 모든 인스턴스가 같은 값을 사용)
+CREATE TABLE IF NOT EXISTS board_feed_version (
+    id      SMALLINT PRIMARY KEY,
+    version BIGINT   NOT NULL
+);
+INSERT INTO board_feed_version (id, version) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
@@ -0,0 +1,57 @@
+package backend.Board.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import backend.auth.dto.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class BoardResponsesTest {
+
+    @ParameterizedTest
+    @EnumSource(BoardErrorCode.class)
+    void errorCodeDecidesStatusAndCode(BoardErrorCode errorCode) {
+        ResponseEntity<ApiResponse<Void>> response = BoardResponses.failure(new BoardException(errorCode));
+
+        assertThat(response.getStatusCode()).isEqualTo(errorCode.getStatus());
+        assertThat(response.getBody().isSuccess()).isFalse();
+        assertThat(response.getBody().getCode()).isEqualTo(errorCode.name());
+        assertThat(response.getBody().getMessage()).isEqualTo(errorCode.getDefaultMessage());
+        assertThat(response.getBody().getData()).isNull();
+    }
+
+    @Test
+    void customMessageIsKeptWithCodeStatus() {
+        ResponseEntity<ApiResponse<Void>> response =
+                BoardResponses.failure(new BoardException(BoardErrorCode.FORBIDDEN, "본인 글만 수정할 수 있습니다."));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(response.getBody().getCode()).isEqualTo("FORBIDDEN");
+        assertThat(response.getBody().getMessage()).isEqualTo("본인 글만 수정할 수 있습니다.");
+    }
+
+    @Test
+    void errorCodeAloneUsesDefaultMessage() {
+        ResponseEntity<ApiResponse<Void>> response = BoardResponses.failure(BoardErrorCode.INVALID_CURSOR);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody().getCode()).isEqualTo("INVALID_CURSOR");
+        assertThat(response.getBody().getMessage()).isEqualTo("잘못된 커서입니다.");
+    }
+
+    @Test
+    void boardExceptionHasNoStackTrace() {
+        BoardException e = new BoardException(BoardErrorCode.POST_NOT_FOUND);
+
+        assertThat(e.getStackTrace()).isEmpty();
+        assertThat(e.getCause()).isNull();
+        assertThat(e.getSuppressed()).isEmpty();
+        e.addSuppressed(new IllegalStateException());
+        assertThat(e.getSuppressed()).isEmpty();
+    }
+}
@@ -0,0 +1,51 @@
+package backend.Board.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class CommentCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+        CommentCursor decoded = CommentCursor.decode(new CommentCursor(createdAt, 99L).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(99L);
+    }
+
+    @Test
+    void blankCursorStartsBeforeEveryComment() {
+        CommentCursor first = CommentCursor.decode("");
+
+        assertThat(first.getId()).isZero();
+        assertThat(first.getCreatedAt()).isBefore(LocalDateTime.of(2000, 1, 1, 0, 0));
+        assertThat(CommentCursor.decode(null).getId()).isZero();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertInvalid("%%%");
+        assertInvalid(encode("2024-01-01T00:00"));
+        assertInvalid(encode("yesterday|1"));
+        assertInvalid(encode("2024-01-01T00:00|1|2"));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(String cursor) {
+        assertThatThrownBy(() -> CommentCursor.decode(cursor))
+                .isInstanceOf(BoardException.class)
+                .extracting(e -> ((BoardException) e).getErrorCode())
+                .isEqualTo(BoardErrorCode.INVALID_CURSOR);
+    }
+}
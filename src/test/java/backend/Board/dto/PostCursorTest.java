@@ -0,0 +1,73 @@
+package backend.Board.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+class PostCursorTest {
+
+    @Test
+    void encodeDecodeRoundTripsEachSortKey() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15);
+        PostCursor date = PostCursor.decode(
+                new PostCursor(PostSortType.DATE, createdAt.toString(), 42L).encode(), PostSortType.DATE);
+        assertThat(date.createdAt()).isEqualTo(createdAt);
+        assertThat(date.getId()).isEqualTo(42L);
+
+        PostCursor likes = PostCursor.decode(
+                new PostCursor(PostSortType.LIKES, "17", 7L).encode(), PostSortType.LIKES);
+        assertThat(likes.longKey()).isEqualTo(17L);
+        assertThat(likes.getId()).isEqualTo(7L);
+
+        PostCursor popular = PostCursor.decode(
+                new PostCursor(PostSortType.POPULAR, "12.5", 3L).encode(), PostSortType.POPULAR);
+        assertThat(popular.doubleKey()).isEqualTo(12.5);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new PostCursor(PostSortType.DATE, LocalDateTime.of(2024, 1, 1, 0, 0).toString(), 1L)
+                .encode();
+        assertThat(encoded).doesNotContain("+", "/", "=");
+    }
+
+    @Test
+    void blankCursorIsFirstPage() {
+        PostCursor cursor = PostCursor.decode(null, PostSortType.VIEWS);
+        assertThat(cursor.isFirst()).isTrue();
+        assertThat(cursor.getSortType()).isEqualTo(PostSortType.VIEWS);
+        assertThat(cursor.longKey()).isEqualTo(Long.MAX_VALUE);
+        assertThat(PostCursor.decode(" ", PostSortType.DATE).isFirst()).isTrue();
+    }
+
+    @Test
+    void cursorFromAnotherSortIsRejected() {
+        String likesCursor = new PostCursor(PostSortType.LIKES, "17", 7L).encode();
+        assertInvalid(() -> PostCursor.decode(likesCursor, PostSortType.DATE));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertInvalid(() -> PostCursor.decode("not base64!", PostSortType.DATE));
+        assertInvalid(() -> PostCursor.decode(encode("DATE|2024-01-01T00:00"), PostSortType.DATE));
+        assertInvalid(() -> PostCursor.decode(encode("UNKNOWN|1|1"), PostSortType.DATE));
+        assertInvalid(() -> PostCursor.decode(encode("LIKES|1|abc"), PostSortType.LIKES));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void assertInvalid(Runnable decode) {
+        assertThatThrownBy(decode::run)
+                .isInstanceOf(BoardException.class)
+                .extracting(e -> ((BoardException) e).getErrorCode())
+                .isEqualTo(BoardErrorCode.INVALID_CURSOR);
+    }
+}
@@ -0,0 +1,157 @@
+package backend.Board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import backend.Board.dto.LikeRequest.LikeType;
+import backend.Board.exception.BoardErrorCode;
+import backend.Board.exception.BoardException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class LikeIngestionQueueTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PopularityScoreRefresher popularityScoreRefresher = mock(PopularityScoreRefresher.class);
+    private final TrendingPostTracker trendingPostTracker = mock(TrendingPostTracker.class);
+    private final BoardEntityCache boardEntityCache = mock(BoardEntityCache.class);
+    private final LikedPostCache likedPostCache = mock(LikedPostCache.class);
+    private final FeedVersionTracker feedVersionTracker = mock(FeedVersionTracker.class);
+
+    // 실행된 batch 문장과 인자 (SQL 앞부분으로 구분)
+    private final List<String> statements = new ArrayList<>();
+    private final List<List<Object[]>> arguments = new ArrayList<>();
+    private int rowsPerStatement = 1;
+
+    private LikeIngestionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(inv -> {
+            List<Object[]> args = inv.getArgument(1);
+            statements.add(inv.getArgument(0));
+            arguments.add(args);
+            int[] rows = new int[args.size()];
+            Arrays.fill(rows, rowsPerStatement);
+            return rows;
+        });
+        queue = new LikeIngestionQueue(jdbcTemplate, new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                popularityScoreRefresher, trendingPostTracker, boardEntityCache, likedPostCache, feedVersionTracker);
+        ReflectionTestUtils.setField(queue, "capacity", 2);
+    }
+
+    @Test
+    void repeatedTogglesOfOneUserCoalesceToFinalState() {
+        queue.submit(LikeType.POST, 10L, 1L, true);
+        queue.submit(LikeType.POST, 10L, 1L, false);
+        queue.submit(LikeType.POST, 10L, 1L, true);
+
+        assertThat(queue.pendingState(LikeType.POST, 10L, 1L)).isTrue();
+        queue.flush();
+
+        assertThat(argumentsOf("INSERT INTO likes (user_id, post_id)")).containsExactly(List.of(1L, 10L));
+        assertThat(argumentsOf("DELETE FROM likes WHERE user_id = ? AND post_id")).isEmpty();
+        assertThat(argumentsOf("UPDATE post SET like_count = like_count + ?")).containsExactly(List.of(1L, 10L));
+        assertThat(queue.pendingState(LikeType.POST, 10L, 1L)).isNull();
+    }
+
+    @Test
+    void countersAreUpdatedOncePerTargetWithNetDelta() {
+        ReflectionTestUtils.setField(queue, "capacity", 10);
+        queue.submit(LikeType.POST, 10L, 1L, true);
+        queue.submit(LikeType.POST, 10L, 2L, true);
+        queue.submit(LikeType.POST, 10L, 3L, false);
+        queue.submit(LikeType.COMMENT, 20L, 1L, true);
+
+        queue.flush();
+
+        assertThat(argumentsOf("UPDATE post SET like_count = like_count + ?")).containsExactly(List.of(1L, 10L));
+        assertThat(argumentsOf("UPDATE comments SET like_count = like_count + ?")).containsExactly(List.of(1L, 20L));
+        verify(boardEntityCache).evictPosts(Set.of(10L));
+        verify(boardEntityCache).evictComments(Set.of(20L));
+        verify(popularityScoreRefresher).markDirty(10L);
+        verify(feedVersionTracker).bump();
+    }
+
+    @Test
+    void likedCacheIsUpdatedOnlyForRowsThatChanged() {
+        queue.submit(LikeType.POST, 10L, 1L, true);
+        queue.submit(LikeType.COMMENT, 20L, 1L, true);
+        queue.flush();
+        verify(likedPostCache).update(1L, 10L, true);
+
+        // 이미 좋아요한 상태라 INSERT 가 0행이면 캐시를 건드리지 않음
+        rowsPerStatement = 0;
+        queue.submit(LikeType.POST, 11L, 1L, true);
+        queue.flush();
+        verify(likedPostCache, never()).update(eq(1L), eq(11L), eq(true));
+    }
+
+    @Test
+    void unknownRowCountsResyncCounterAndInvalidateCache() {
+        rowsPerStatement = Statement.SUCCESS_NO_INFO;
+        queue.submit(LikeType.POST, 10L, 1L, true);
+        queue.flush();
+
+        assertThat(argumentsOf("UPDATE post SET like_count = (SELECT COUNT(*)")).containsExactly(List.of(10L, 10L));
+        assertThat(argumentsOf("UPDATE post SET like_count = like_count + ?")).isEmpty();
+        verify(likedPostCache).invalidate(1L);
+        verify(boardEntityCache).evictPosts(Set.of(10L));
+        verify(popularityScoreRefresher).markDirty(10L);
+    }
+
+    @Test
+    void rejectsNewKeysWhenFullButAcceptsOverwrites() {
+        queue.submit(LikeType.POST, 10L, 1L, true);
+        queue.submit(LikeType.POST, 11L, 1L, true);
+
+        assertThatThrownBy(() -> queue.submit(LikeType.POST, 12L, 1L, true))
+                .isInstanceOf(BoardException.class)
+                .extracting(e -> ((BoardException) e).getErrorCode())
+                .isEqualTo(BoardErrorCode.TOO_MANY_REQUESTS);
+        queue.submit(LikeType.POST, 10L, 1L, false);
+        assertThat(queue.pendingState(LikeType.POST, 10L, 1L)).isFalse();
+    }
+
+    @Test
+    void failedFlushRequeuesWithoutOverwritingNewerRequests() {
+        queue.submit(LikeType.POST, 10L, 1L, true);
+        doAnswer(inv -> {
+            // 반영 도중 같은 사용자의 새 요청 도착
+            queue.submit(LikeType.POST, 10L, 1L, false);
+            throw new DataAccessResourceFailureException("connection lost");
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        assertThatThrownBy(queue::flush).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(queue.pendingState(LikeType.POST, 10L, 1L)).isFalse();
+        verify(likedPostCache, never()).update(eq(1L), eq(10L), eq(true));
+    }
+
+    private List<List<Object>> argumentsOf(String sqlPrefix) {
+        List<List<Object>> result = new ArrayList<>();
+        for (int i = 0; i < statements.size(); i++) {
+            if (statements.get(i).startsWith(sqlPrefix)) {
+                arguments.get(i).forEach(args -> result.add(Arrays.asList(args)));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package backend.auth.entity;
+
+import static backend.auth.entity.Payment.PaymentStatus.ABORTED;
+import static backend.auth.entity.Payment.PaymentStatus.CANCELED;
+import static backend.auth.entity.Payment.PaymentStatus.CANCELING;
+import static backend.auth.entity.Payment.PaymentStatus.CONFIRMING;
+import static backend.auth.entity.Payment.PaymentStatus.DONE;
+import static backend.auth.entity.Payment.PaymentStatus.EXPIRED;
+import static backend.auth.entity.Payment.PaymentStatus.FAILED;
+import static backend.auth.entity.Payment.PaymentStatus.IN_PROGRESS;
+import static backend.auth.entity.Payment.PaymentStatus.PARTIAL_CANCELED;
+import static backend.auth.entity.Payment.PaymentStatus.WAITING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import backend.auth.entity.Payment.PaymentStatus;
+import org.junit.jupiter.api.Test;
+
+class PaymentStatusTest {
+
+    @Test
+    void fromTossMapsTossOnlyStatuses() {
+        assertThat(PaymentStatus.fromToss("READY")).isEqualTo(IN_PROGRESS);
+        assertThat(PaymentStatus.fromToss("WAITING_FOR_DEPOSIT")).isEqualTo(WAITING);
+        assertThat(PaymentStatus.fromToss("DONE")).isEqualTo(DONE);
+        assertThat(PaymentStatus.fromToss("PARTIAL_CANCELED")).isEqualTo(PARTIAL_CANCELED);
+        assertThat(PaymentStatus.fromToss("ABORTED")).isEqualTo(ABORTED);
+        assertThatThrownBy(() -> PaymentStatus.fromToss("UNKNOWN")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void confirmingResolvesToAnyTossResultButNotCanceling() {
+        assertThat(CONFIRMING.canTransitionTo(DONE)).isTrue();
+        assertThat(CONFIRMING.canTransitionTo(FAILED)).isTrue();
+        assertThat(CONFIRMING.canTransitionTo(ABORTED)).isTrue();
+        assertThat(CONFIRMING.canTransitionTo(CANCELING)).isFalse();
+    }
+
+    @Test
+    void onlyCompletedPaymentsCanStartCanceling() {
+        assertThat(DONE.canTransitionTo(CANCELING)).isTrue();
+        assertThat(PARTIAL_CANCELED.canTransitionTo(CANCELING)).isTrue();
+        assertThat(WAITING.canTransitionTo(CANCELING)).isFalse();
+        assertThat(FAILED.canTransitionTo(CANCELING)).isFalse();
+        assertThat(DONE.canTransitionTo(FAILED)).isFalse();
+        assertThat(DONE.canTransitionTo(CONFIRMING)).isFalse();
+    }
+
+    @Test
+    void cancelingResolvesToCanceledOrBackToDone() {
+        assertThat(CANCELING.canTransitionTo(CANCELED)).isTrue();
+        assertThat(CANCELING.canTransitionTo(PARTIAL_CANCELED)).isTrue();
+        assertThat(CANCELING.canTransitionTo(DONE)).isTrue();
+        assertThat(CANCELING.canTransitionTo(FAILED)).isFalse();
+    }
+
+    @Test
+    void canceledIsTerminal() {
+        for (PaymentStatus next : PaymentStatus.values()) {
+            assertThat(CANCELED.canTransitionTo(next)).isEqualTo(next == CANCELED);
+        }
+    }
+
+    @Test
+    void failedOrExpiredPaymentsCanRetryConfirmation() {
+        assertThat(FAILED.canTransitionTo(CONFIRMING)).isTrue();
+        assertThat(EXPIRED.canTransitionTo(CONFIRMING)).isTrue();
+        assertThat(WAITING.canTransitionTo(CONFIRMING)).isTrue();
+    }
+
+    @Test
+    void transitionToRejectsInvalidMoves() {
+        Payment payment = Payment.builder().build();
+        payment.transitionTo(CONFIRMING);
+        payment.transitionTo(DONE);
+
+        assertThatThrownBy(() -> payment.transitionTo(FAILED)).isInstanceOf(IllegalStateException.class);
+        assertThat(payment.getStatus()).isEqualTo(DONE);
+    }
+}
@@ -0,0 +1,51 @@
+package backend.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver("10.0.0.0/8, 127.0.0.1");
+
+    @Test
+    void ipKeyIsDisabledWithoutTrustedProxies() {
+        ClientIpResolver unconfigured = new ClientIpResolver("");
+        assertThat(unconfigured.resolve(request("203.0.113.7", null))).isNull();
+    }
+
+    @Test
+    void directConnectionUsesRemoteAddress() {
+        assertThat(resolver.resolve(request("203.0.113.7", "198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void trustedProxyUsesRightMostUntrustedHop() {
+        // 클라이언트가 보낸 위조 값(1.2.3.4)은 건너뛰고 프록시가 덧붙인 실제 주소를 사용
+        assertThat(resolver.resolve(request("10.0.0.5", "1.2.3.4, 198.51.100.9, 10.0.0.2")))
+                .isEqualTo("198.51.100.9");
+    }
+
+    @Test
+    void trustedProxyWithoutUsableHeaderDisablesIpKey() {
+        assertThat(resolver.resolve(request("127.0.0.1", null))).isNull();
+        assertThat(resolver.resolve(request("127.0.0.1", "10.0.0.2"))).isNull();
+        assertThat(resolver.resolve(request("127.0.0.1", "unknown"))).isNull();
+        assertThat(resolver.resolve(request("127.0.0.1", "evil.example.com"))).isNull();
+    }
+
+    @Test
+    void acceptsIpv6Hops() {
+        assertThat(resolver.resolve(request("10.0.0.5", "2001:db8::1"))).isEqualTo("2001:db8::1");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader(ClientIpResolver.FORWARDED_FOR, forwardedFor);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,66 @@
+package backend.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import backend.auth.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import java.util.Base64;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtUtilTest {
+
+    private final JwtUtil jwtUtil = new JwtUtil();
+    private final User user = User.builder().id(7L).email("user@example.com").nickname("다이어리").build();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", Base64.getEncoder().encodeToString(new byte[64]));
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 100);
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenTtlMs", 60_000L);
+        jwtUtil.init();
+    }
+
+    @Test
+    void tokenCarriesPrincipalClaims() {
+        Claims claims = jwtUtil.extractAllClaims(jwtUtil.generateToken(user, "family-1"));
+
+        assertThat(claims.getSubject()).isEqualTo("user@example.com");
+        assertThat(claims.get(JwtUtil.USER_ID_CLAIM, Long.class)).isEqualTo(7L);
+        assertThat(claims.get(JwtUtil.NICKNAME_CLAIM, String.class)).isEqualTo("다이어리");
+        assertThat(claims.get(JwtUtil.FAMILY_ID_CLAIM, String.class)).isEqualTo("family-1");
+        assertThat(claims.getId()).isNotBlank();
+    }
+
+    @Test
+    void repeatedVerificationReusesParsedClaims() {
+        String token = jwtUtil.generateToken(user, "family-1");
+
+        Claims first = jwtUtil.extractAllClaims(token);
+        assertThat(jwtUtil.extractAllClaims(token)).isSameAs(first);
+        assertThat(jwtUtil.extractAllClaims("Bearer " + token)).isSameAs(first);
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = jwtUtil.generateToken(user, "family-1");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void cachedTokenStillExpires() throws InterruptedException {
+        ReflectionTestUtils.setField(jwtUtil, "accessTokenTtlMs", 1_000L);
+        String token = jwtUtil.generateToken(user, "family-1");
+        jwtUtil.extractAllClaims(token);
+
+        Thread.sleep(2_100);
+
+        assertThatThrownBy(() -> jwtUtil.extractAllClaims(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package backend.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class LoginAttemptLimiterTest {
+
+    private static final long WINDOW_MS = 60_000;
+    private static final String IP = "203.0.113.7";
+
+    // 구간 경계에서 시작 (직전 구간 가중치 계산을 예측 가능하게)
+    private final AtomicLong now = new AtomicLong(WINDOW_MS * 1000);
+    private final LoginAttemptLimiter limiter = new LoginAttemptLimiter(WINDOW_MS, 3, 5, 1000, now::get);
+
+    @Test
+    void blocksEmailAfterMaxFailuresInWindow() {
+        fail("user@example.com", null, 2);
+        assertThat(limiter.isBlocked("user@example.com", null)).isFalse();
+
+        fail("user@example.com", null, 1);
+        assertThat(limiter.isBlocked("user@example.com", null)).isTrue();
+        assertThat(limiter.isBlocked("other@example.com", null)).isFalse();
+    }
+
+    @Test
+    void emailKeyIsCaseAndWhitespaceInsensitive() {
+        fail(" User@Example.com ", null, 3);
+        assertThat(limiter.isBlocked("user@example.com", null)).isTrue();
+    }
+
+    @Test
+    void blocksIpAcrossDifferentEmails() {
+        for (int i = 0; i < 5; i++) {
+            limiter.recordFailure("user" + i + "@example.com", IP);
+        }
+        assertThat(limiter.isBlocked("fresh@example.com", IP)).isTrue();
+        assertThat(limiter.isBlocked("fresh@example.com", "198.51.100.1")).isFalse();
+        assertThat(limiter.isBlocked("fresh@example.com", null)).isFalse();
+    }
+
+    @Test
+    void previousWindowFailuresDecayLinearly() {
+        fail("user@example.com", null, 3);
+
+        // 다음 구간 1/3 지점: 직전 구간 3회 * 2/3 = 2 < 3
+        now.addAndGet(WINDOW_MS + WINDOW_MS / 3);
+        assertThat(limiter.isBlocked("user@example.com", null)).isFalse();
+
+        // 다음 구간 시작 직후에는 직전 구간이 거의 그대로 반영되어 1회만 더 실패해도 한도 초과
+        now.set(WINDOW_MS * 2000);
+        fail("user@example.com", null, 3);
+        now.addAndGet(WINDOW_MS + 1);
+        fail("user@example.com", null, 1);
+        assertThat(limiter.isBlocked("user@example.com", null)).isTrue();
+    }
+
+    @Test
+    void failuresOlderThanTwoWindowsAreForgotten() {
+        fail("user@example.com", null, 3);
+        now.addAndGet(WINDOW_MS * 2);
+        assertThat(limiter.isBlocked("user@example.com", null)).isFalse();
+    }
+
+    @Test
+    void successClearsEmailButNotIp() {
+        for (int i = 0; i < 5; i++) {
+            limiter.recordFailure("user@example.com", IP);
+        }
+        limiter.recordSuccess("user@example.com");
+
+        assertThat(limiter.isBlocked("user@example.com", null)).isFalse();
+        assertThat(limiter.isBlocked("user@example.com", IP)).isTrue();
+    }
+
+    @Test
+    void retryAfterIsTimeLeftInCurrentWindow() {
+        now.addAndGet(WINDOW_MS / 2);
+        assertThat(limiter.retryAfterSeconds()).isEqualTo(WINDOW_MS / 2 / 1000);
+    }
+
+    private void fail(String email, String ip, int times) {
+        for (int i = 0; i < times; i++) {
+            limiter.recordFailure(email, ip);
+        }
+    }
+}
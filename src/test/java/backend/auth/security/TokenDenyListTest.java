@@ -0,0 +1,97 @@
+package backend.auth.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import backend.auth.entity.RevokedToken;
+import backend.auth.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TokenDenyListTest {
+
+    private static final long BUCKET_MS = 100;
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private TokenDenyList denyList;
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        when(repository.findByCreatedAtAfter(any())).thenReturn(List.of());
+        denyList = new TokenDenyList(repository);
+        ReflectionTestUtils.setField(denyList, "bucketMs", BUCKET_MS);
+        ReflectionTestUtils.setField(denyList, "expectedPerBucket", 100);
+        denyList.init();
+    }
+
+    @Test
+    void revokedJtiAndFamilyAreDenied() {
+        long expiresAt = System.currentTimeMillis() + 10_000;
+        denyList.revoke(TokenDenyList.JTI_PREFIX + "jti-1", expiresAt);
+        denyList.revoke(TokenDenyList.FAMILY_PREFIX + "family-1", expiresAt);
+
+        assertThat(denyList.isDenied(claims("jti-1", "family-2"))).isTrue();
+        assertThat(denyList.isDenied(claims("jti-2", "family-1"))).isTrue();
+        assertThat(denyList.isDenied(claims("jti-2", "family-2"))).isFalse();
+        assertThat(denyList.isDenied(claims(null, null))).isFalse();
+        verify(repository, times(2)).save(any(RevokedToken.class));
+    }
+
+    @Test
+    void alreadyExpiredRevocationIsNotKept() {
+        denyList.revoke(TokenDenyList.JTI_PREFIX + "old", System.currentTimeMillis() - 1);
+        assertThat(denyList.isDenied(claims("old", null))).isFalse();
+        assertThat(buckets()).isEmpty();
+    }
+
+    @Test
+    void bucketIsDroppedOnceItsWholeRangeHasExpired() throws InterruptedException {
+        denyList.revoke(TokenDenyList.JTI_PREFIX + "short", System.currentTimeMillis() + BUCKET_MS / 2);
+        denyList.revoke(TokenDenyList.JTI_PREFIX + "long", System.currentTimeMillis() + 60_000);
+        assertThat(buckets()).hasSize(2);
+
+        // 만료 시각이 속한 구간이 끝날 때까지 기다린 뒤 동기화하면 해당 버킷만 제거
+        Thread.sleep(BUCKET_MS * 3);
+        denyList.sync();
+
+        assertThat(buckets()).hasSize(1);
+        assertThat(denyList.isDenied(claims("short", null))).isFalse();
+        assertThat(denyList.isDenied(claims("long", null))).isTrue();
+    }
+
+    @Test
+    void syncPicksUpRevocationsFromOtherInstances() {
+        when(repository.findByCreatedAtAfter(any())).thenReturn(List.of(RevokedToken.builder()
+                .tokenKey(TokenDenyList.FAMILY_PREFIX + "remote")
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build()));
+
+        denyList.sync();
+
+        assertThat(denyList.isDenied(claims("any", "remote"))).isTrue();
+    }
+
+    private static Claims claims(String jti, String familyId) {
+        Claims claims = Jwts.claims();
+        claims.setId(jti);
+        if (familyId != null) {
+            claims.put(JwtUtil.FAMILY_ID_CLAIM, familyId);
+        }
+        return claims;
+    }
+
+    private Map<?, ?> buckets() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(denyList, "buckets");
+    }
+}
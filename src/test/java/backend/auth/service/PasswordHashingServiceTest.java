@@ -0,0 +1,99 @@
+package backend.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import backend.auth.exception.PasswordHashingBusyException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void encodesAndMatchesOnPool() {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(4), 2, 4, 3_000);
+
+        String hash = service.encode("password1!");
+
+        assertThat(service.matches("password1!", hash)).isTrue();
+        assertThat(service.matches("wrong", hash)).isFalse();
+    }
+
+    @Test
+    void weakerStoredHashNeedsRehash() {
+        String weakHash = new BCryptPasswordEncoder(4).encode("password1!");
+        service = new PasswordHashingService(new BCryptPasswordEncoder(10), 1, 1, 3_000);
+
+        assertThat(service.needsRehash(weakHash)).isTrue();
+        assertThat(service.needsRehash(new BCryptPasswordEncoder(10).encode("password1!"))).isFalse();
+    }
+
+    @Test
+    void rejectsWhenPoolAndQueueAreFull() throws Exception {
+        service = new PasswordHashingService(blockingEncoder(), 1, 1, 10_000);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(service, "executor");
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("b"));
+        awaitQueued(executor, 1);
+
+        assertThatThrownBy(() -> service.encode("c")).isInstanceOf(PasswordHashingBusyException.class);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed");
+    }
+
+    @Test
+    void waitTimeoutIsReportedAsBusy() {
+        service = new PasswordHashingService(blockingEncoder(), 1, 1, 100);
+
+        assertThatThrownBy(() -> service.matches("a", "hashed")).isInstanceOf(PasswordHashingBusyException.class);
+    }
+
+    private PasswordEncoder blockingEncoder() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "hashed";
+        });
+        when(encoder.matches(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return true;
+        });
+        return encoder;
+    }
+
+    private static void awaitQueued(ThreadPoolExecutor executor, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (executor.getQueue().size() < size) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package backend.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import backend.auth.config.TossPaymentsConfig;
+import backend.auth.config.WebClientConfig;
+import backend.auth.dto.PaymentConfirmRequest;
+import backend.auth.dto.PaymentConfirmResponse;
+import backend.auth.entity.Order;
+import backend.auth.entity.Payment;
+import backend.auth.exception.PaymentException;
+import backend.auth.repository.OrderRepository;
+import backend.auth.repository.PaymentRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 로컬 토스 대역(JDK HttpServer)에 대한 결제 승인 흐름 검증.
+ * paymentKey 접두어로 대역의 응답(성공/4xx 거절/5xx/HTML 오류/지연)을 고르고,
+ * 4xx 거절만 FAILED 로 확정되고 나머지는 CONFIRMING 으로 남는지 확인한다.
+ * 트랜잭션은 커넥션 풀처럼 개수가 제한된 PooledTransactionManager 로 열어,
+ * 토스 호출 중에 커넥션을 잡지 않는지와 풀보다 많은 동시 승인이 모두 처리되는지 확인한다.
+ */
+class PaymentServiceTossStandInTest {
+
+    private static final long AMOUNT = 1000L;
+    private static final long STAND_IN_LATENCY_MS = 20;
+    private static final int POOL_SIZE = 2;
+    private static final int CLIENTS = 32;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private HttpServer tossStandIn;
+    private ExecutorService standInExecutor;
+    private final AtomicInteger tossRequests = new AtomicInteger();
+    private final AtomicInteger tossInFlight = new AtomicInteger();
+    private final AtomicInteger maxTossInFlight = new AtomicInteger();
+    // 토스 요청을 받은 시점에 그 요청을 보낸 스레드가 트랜잭션(커넥션)을 잡고 있던 횟수
+    private final AtomicInteger callsHoldingConnection = new AtomicInteger();
+    private final Map<String, Thread> clientThreads = new ConcurrentHashMap<>();
+    private final PooledTransactionManager transactionManager = new PooledTransactionManager(POOL_SIZE);
+
+    private final Map<Long, Payment> payments = new ConcurrentHashMap<>();
+    private final Map<String, Order> orders = new ConcurrentHashMap<>();
+    private final AtomicLong paymentIds = new AtomicLong();
+
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        standInExecutor = Executors.newFixedThreadPool(64);
+        tossStandIn = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        tossStandIn.createContext("/v1/payments/", this::handleConfirm);
+        tossStandIn.setExecutor(standInExecutor);
+        tossStandIn.start();
+
+        TossPaymentsConfig config = new TossPaymentsConfig();
+        config.setSecretKey("test_sk");
+        config.setApiUrl("http://127.0.0.1:" + tossStandIn.getAddress().getPort() + "/v1");
+        config.setTimeoutMs(2000);
+
+        PaymentRepository paymentRepository = mock(PaymentRepository.class);
+        when(paymentRepository.findByOrderIdForUpdate(anyString())).thenAnswer(inv -> payments.values().stream()
+                .filter(payment -> payment.getOrderId().equals(inv.getArgument(0)))
+                .findFirst());
+        when(paymentRepository.findById(anyLong()))
+                .thenAnswer(inv -> Optional.ofNullable(payments.get(inv.<Long>getArgument(0))));
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> {
+            Payment payment = inv.getArgument(0);
+            if (payment.getId() == null) {
+                payment.setId(paymentIds.incrementAndGet());
+            }
+            payments.put(payment.getId(), payment);
+            return payment;
+        });
+
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        when(orderRepository.findByOrderIdForUpdate(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(orders.get(inv.<String>getArgument(0))));
+        when(orderRepository.findByOrderId(anyString()))
+                .thenAnswer(inv -> Optional.ofNullable(orders.get(inv.<String>getArgument(0))));
+        when(orderRepository.save(any(Order.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        TossPaymentsClient tossClient = new TossPaymentsClient(config, new WebClientConfig().webClient());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        paymentService = new PaymentService(paymentRepository, orderRepository, tossClient, config,
+                transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tossStandIn.stop(0);
+        standInExecutor.shutdownNow();
+    }
+
+    @Test
+    void confirmDoneMarksPaymentAndOrderPaid() {
+        PaymentConfirmResponse response = confirm("ok-1", "order-1");
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(paymentOf("order-1").getStatus()).isEqualTo(Payment.PaymentStatus.DONE);
+        assertThat(orders.get("order-1").getStatus()).isEqualTo(Order.OrderStatus.PAID);
+    }
+
+    @Test
+    void confirmRejectedWith4xxIsFinalFailure() {
+        PaymentConfirmResponse response = confirm("reject-1", "order-1");
+
+        assertThat(response.getErrorCode()).isEqualTo("PAYMENT_CONFIRM_FAILED");
+        assertThat(paymentOf("order-1").getStatus()).isEqualTo(Payment.PaymentStatus.FAILED);
+        assertThat(orders.get("order-1").getStatus()).isEqualTo(Order.OrderStatus.PENDING);
+    }
+
+    @Test
+    void confirmWith5xxStaysConfirming() {
+        PaymentConfirmResponse response = confirm("error-1", "order-1");
+
+        assertThat(response.getErrorCode()).isEqualTo("PAYMENT_CONFIRM_PENDING");
+        assertThat(paymentOf("order-1").getStatus()).isEqualTo(Payment.PaymentStatus.CONFIRMING);
+    }
+
+    @Test
+    void confirmWithUnreadableErrorBodyStaysConfirming() {
+        PaymentConfirmResponse response = confirm("html-1", "order-1");
+
+        assertThat(response.getErrorCode()).isEqualTo("PAYMENT_CONFIRM_PENDING");
+        assertThat(paymentOf("order-1").getStatus()).isEqualTo(Payment.PaymentStatus.CONFIRMING);
+    }
+
+    @Test
+    void confirmAlreadyProcessedStaysConfirmingForRecovery() {
+        PaymentConfirmResponse response = confirm("processed-1", "order-1");
+
+        assertThat(response.getErrorCode()).isEqualTo("PAYMENT_CONFIRM_PENDING");
+        assertThat(paymentOf("order-1").getStatus()).isEqualTo(Payment.PaymentStatus.CONFIRMING);
+    }
+
+    @Test
+    void confirmTimeoutStaysConfirming() {
+        PaymentConfirmResponse response = confirm("slow-1", "order-1");
+
+        assertThat(response.getErrorCode()).isEqualTo("PAYMENT_CONFIRM_PENDING");
+        assertThat(paymentOf("order-1").getStatus()).isEqualTo(Payment.PaymentStatus.CONFIRMING);
+    }
+
+    @Test
+    void rejectionIsDecidedByStatusCodeAndErrorCode() {
+        assertThat(PaymentService.isRejectedByToss(new PaymentException("x", 400, "REJECT_CARD_PAYMENT"))).isTrue();
+        assertThat(PaymentService.isRejectedByToss(new PaymentException("x", 404, null))).isTrue();
+        assertThat(PaymentService.isRejectedByToss(new PaymentException("x", 400, "ALREADY_PROCESSED_PAYMENT"))).isFalse();
+        assertThat(PaymentService.isRejectedByToss(new PaymentException("x", 429, null))).isFalse();
+        assertThat(PaymentService.isRejectedByToss(new PaymentException("x", 500, "FAILED_INTERNAL_SYSTEM_PROCESSING"))).isFalse();
+        assertThat(PaymentService.isRejectedByToss(new PaymentException("amount mismatch"))).isFalse();
+    }
+
+    // 풀(2)보다 많은 클라이언트(32)가 동시에 승인해도 토스 호출 동안 커넥션을 잡지 않으므로 모두 처리되어야 함
+    @Test
+    void concurrentConfirmsNeverHoldConnectionDuringTossCall() throws Exception {
+        int requests = 200;
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<PaymentConfirmResponse>> results = new ArrayList<>();
+            for (int i = 0; i < requests; i++) {
+                String suffix = String.valueOf(i);
+                results.add(clients.submit(() -> confirm("ok-" + suffix, "order-" + suffix)));
+            }
+            for (Future<PaymentConfirmResponse> result : results) {
+                assertThat(result.get(30, TimeUnit.SECONDS).isSuccess()).isTrue();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        assertThat(tossRequests.get()).isEqualTo(requests);
+        assertThat(payments.values()).hasSize(requests)
+                .allMatch(payment -> payment.getStatus() == Payment.PaymentStatus.DONE);
+        assertThat(callsHoldingConnection.get()).isZero();
+        assertThat(transactionManager.exhausted.get()).isZero();
+        assertThat(transactionManager.maxOpen.get()).isLessThanOrEqualTo(POOL_SIZE);
+        // 토스 호출이 풀 크기보다 많이 겹쳤다면 호출 동안 커넥션을 잡지 않았다는 뜻
+        assertThat(maxTossInFlight.get()).isGreaterThan(POOL_SIZE);
+    }
+
+    private PaymentConfirmResponse confirm(String paymentKey, String orderId) {
+        clientThreads.put(orderId, Thread.currentThread());
+        orders.put(orderId, Order.builder().orderId(orderId).orderName("다이어리 구독").amount(AMOUNT).build());
+        return paymentService.confirmPayment(new PaymentConfirmRequest(paymentKey, orderId, (int) AMOUNT));
+    }
+
+    private Payment paymentOf(String orderId) {
+        return payments.values().stream()
+                .filter(payment -> payment.getOrderId().equals(orderId))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    // POST /v1/payments/{paymentKey} : paymentKey 접두어에 따라 토스 응답을 흉내냄
+    private void handleConfirm(HttpExchange exchange) throws IOException {
+        tossRequests.incrementAndGet();
+        String paymentKey = exchange.getRequestURI().getPath().substring("/v1/payments/".length());
+        JsonNode body = OBJECT_MAPPER.readTree(exchange.getRequestBody());
+        String orderId = body.path("orderId").asText();
+        if (transactionManager.isHeldBy(clientThreads.get(orderId))) {
+            callsHoldingConnection.incrementAndGet();
+        }
+        maxTossInFlight.accumulateAndGet(tossInFlight.incrementAndGet(), Math::max);
+
+        try {
+            if (paymentKey.startsWith("ok-")) {
+                Thread.sleep(STAND_IN_LATENCY_MS);
+                respond(exchange, 200, "application/json", OBJECT_MAPPER.writeValueAsString(Map.of(
+                        "paymentKey", paymentKey, "orderId", orderId, "orderName", "다이어리 구독",
+                        "status", "DONE", "method", "카드", "totalAmount", AMOUNT, "currency", "KRW",
+                        "approvedAt", "2024-01-01T10:00:00")));
+            } else if (paymentKey.startsWith("reject-")) {
+                respond(exchange, 400, "application/json",
+                        "{\"code\":\"REJECT_CARD_PAYMENT\",\"message\":\"한도초과 혹은 잔액부족으로 결제에 실패했습니다.\"}");
+            } else if (paymentKey.startsWith("processed-")) {
+                respond(exchange, 400, "application/json",
+                        "{\"code\":\"ALREADY_PROCESSED_PAYMENT\",\"message\":\"이미 처리된 결제 입니다.\"}");
+            } else if (paymentKey.startsWith("error-")) {
+                respond(exchange, 500, "application/json",
+                        "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\",\"message\":\"내부 시스템 처리 작업이 실패했습니다.\"}");
+            } else if (paymentKey.startsWith("html-")) {
+                respond(exchange, 502, "text/html", "<html><body>Bad Gateway</body></html>");
+            } else if (paymentKey.startsWith("slow-")) {
+                Thread.sleep(3000);
+                respond(exchange, 200, "application/json", "{}");
+            } else {
+                respond(exchange, 404, "application/json", "{\"code\":\"NOT_FOUND_PAYMENT\"}");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+        } finally {
+            tossInFlight.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * 커넥션 풀 대역: 트랜잭션마다 커넥션 하나를 빌리고 커밋/롤백 때 돌려준다.
+     * 대기 한도 안에 빌리지 못하면 Hikari 처럼 실패하고, 어느 스레드가 잡고 있는지 기록한다.
+     */
+    private static class PooledTransactionManager implements PlatformTransactionManager {
+
+        private final Semaphore connections;
+        private final Set<Thread> holders = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger open = new AtomicInteger();
+        private final AtomicInteger maxOpen = new AtomicInteger();
+        private final AtomicInteger exhausted = new AtomicInteger();
+
+        private PooledTransactionManager(int poolSize) {
+            this.connections = new Semaphore(poolSize);
+        }
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            try {
+                if (!connections.tryAcquire(1, TimeUnit.SECONDS)) {
+                    exhausted.incrementAndGet();
+                    throw new CannotCreateTransactionException("Connection is not available");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CannotCreateTransactionException("Interrupted while waiting for a connection");
+            }
+            holders.add(Thread.currentThread());
+            maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+            return new SimpleTransactionStatus(true);
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            release();
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            release();
+        }
+
+        private boolean isHeldBy(Thread thread) {
+            return thread != null && holders.contains(thread);
+        }
+
+        private void release() {
+            holders.remove(Thread.currentThread());
+            open.decrementAndGet();
+            connections.release();
+        }
+    }
+}